@@ -22,8 +22,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -43,6 +45,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookSaver saver;
     protected Model model;
     protected Config config;
 
@@ -57,16 +60,33 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        convertAddressBookFileIfNeeded(userPrefs);
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(AddressBookFileConverter.createStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookFileFormat()));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Rewrites the data file in the format chosen in {@code userPrefs} if it is stored in the other format.
+     * If the conversion fails, the data file is left as it is and the failure surfaces when it is read.
+     */
+    private void convertAddressBookFileIfNeeded(ReadOnlyUserPrefs userPrefs) {
+        try {
+            AddressBookFileConverter.convertIfNeeded(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getAddressBookFileFormat());
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + userPrefs.getAddressBookFilePath() + " could not be converted to "
+                    + userPrefs.getAddressBookFileFormat() + ": " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -75,7 +95,7 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
@@ -90,7 +110,12 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model initialModel = new ModelManager(initialData, userPrefs);
+        if (addressBookOptional.isPresent()) {
+            // the data file already holds exactly this address book
+            storage.markAddressBookSaved(initialModel.getMutationVersion());
+        }
+        return initialModel;
     }
 
     private void initLogging(Config config) {
@@ -177,6 +202,10 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.awaitExports();
+        if (saver != null) {
+            saver.flush();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the address book data file can be stored in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON document. */
+    JSON,
+    /** Compact binary snapshot that is faster to load. */
+    BINARY
+}
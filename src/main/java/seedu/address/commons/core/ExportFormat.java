@@ -0,0 +1,47 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The file formats that persons can be exported to, each identified by its file extension.
+ */
+public enum ExportFormat {
+    /** Comma-separated values with a header line, in the layout accepted by the import command. */
+    CSV(".csv"),
+    /** JSON document in the same layout as the data file. */
+    JSON(".json"),
+    /** vCard 3.0 contacts, one card per person. */
+    VCARD(".vcf");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format whose extension {@code filePath} ends with, ignoring case.
+     */
+    public static Optional<ExportFormat> fromPath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lowerCaseName = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (lowerCaseName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
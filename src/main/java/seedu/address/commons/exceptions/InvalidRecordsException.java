@@ -0,0 +1,48 @@
+package seedu.address.commons.exceptions;
+
+import java.util.List;
+
+/**
+ * Signals that one or more records of a data file do not fulfill some constraints.
+ * The message is that of the first invalid record, while {@link #getInvalidRecords()} describes every invalid record
+ * together with its position in the file.
+ */
+public class InvalidRecordsException extends IllegalValueException {
+
+    private final List<String> invalidRecords;
+    private final int invalidRecordCount;
+
+    /**
+     * @param message the failed constraint of the first invalid record.
+     * @param invalidRecords descriptions of the invalid records, which may be fewer than {@code invalidRecordCount}.
+     * @param invalidRecordCount the total number of invalid records.
+     */
+    public InvalidRecordsException(String message, List<String> invalidRecords, int invalidRecordCount) {
+        super(message);
+        this.invalidRecords = List.copyOf(invalidRecords);
+        this.invalidRecordCount = invalidRecordCount;
+    }
+
+    public List<String> getInvalidRecords() {
+        return invalidRecords;
+    }
+
+    public int getInvalidRecordCount() {
+        return invalidRecordCount;
+    }
+
+    /**
+     * Returns one line per described invalid record, followed by the number of records that are not described.
+     */
+    public String getDetails() {
+        StringBuilder details = new StringBuilder(invalidRecordCount + " invalid record(s):");
+        for (String invalidRecord : invalidRecords) {
+            details.append(System.lineSeparator()).append(invalidRecord);
+        }
+        if (invalidRecordCount > invalidRecords.size()) {
+            details.append(System.lineSeparator())
+                    .append("... and ").append(invalidRecordCount - invalidRecords.size()).append(" more");
+        }
+        return details.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads and writes single lines of comma-separated values.
+ * A field that contains a comma or a double quote is enclosed in double quotes, and every double quote inside it is
+ * doubled. Fields cannot span more than one line.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by text before the next comma.";
+
+    /** The columns of a CSV file of persons, which the export command writes and the import command reads. */
+    public static final List<String> PERSON_COLUMNS = List.of("name", "phone", "email", "address", "region",
+            "latitude", "longitude", "tags");
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields.
+     *
+     * @throws IllegalValueException if a quoted field in {@code line} is malformed.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start}, just after its opening quote, to {@code field}.
+     *
+     * @return the position just after the closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Joins {@code fields} into one line, quoting the fields that need it.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean needsQuotes = field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                || !field.equals(field.trim());
+        if (!needsQuotes) {
+            line.append(field);
+            return;
+        }
+        line.append(QUOTE).append(field.replace("\"", "\"\"")).append(QUOTE);
+    }
+
+}
@@ -1,17 +1,35 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Files at least this large are memory-mapped by {@link #openReadBuffer(Path)}. */
+    public static final long MEMORY_MAP_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +83,96 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the sibling file that new content for {@code file} is written to before it replaces {@code file}.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces {@code target} with {@code source} in a single step, so that {@code target} is either left untouched
+     * or holds the complete content of {@code source}.
+     * Falls back to a plain replacing move on file systems that cannot move atomically.
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncParentDir(target);
+    }
+
+    /**
+     * Resolves a temporary file left behind by a write that was interrupted before it replaced {@code file}.
+     * If {@code file} still exists it holds the last completed write, so the temporary file is discarded.
+     * Otherwise the interrupted write was the first one, and its temporary file is kept if {@code isComplete}
+     * accepts it.
+     *
+     * @throws IOException if the temporary file could not be restored or deleted.
+     */
+    public static void recoverInterruptedWrite(Path file, Predicate<Path> isComplete) throws IOException {
+        Path tempFile = getTempFilePath(file);
+        if (!Files.exists(tempFile)) {
+            return;
+        }
+
+        if (!Files.exists(file) && isComplete.test(tempFile)) {
+            logger.warning("Restoring " + file + " from a write that was interrupted before completing");
+            replaceAtomically(tempFile, file);
+        } else {
+            logger.warning("Discarding " + tempFile + " left behind by an interrupted write");
+            Files.delete(tempFile);
+        }
+    }
+
+    /**
+     * Flushes the directory entry of {@code file} to the storage device, so that a rename survives a power loss.
+     * Some platforms do not allow directories to be opened, in which case this does nothing.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename itself has already succeeded
+        }
+    }
+
+    /**
+     * Returns the content of {@code file} as a read-only buffer.
+     * Files of at least {@link #MEMORY_MAP_THRESHOLD} bytes are memory-mapped, so their content is read straight
+     * from the OS page cache instead of being copied onto the heap.
+     *
+     * @see #openReadBuffer(Path, long)
+     */
+    public static ByteBuffer openReadBuffer(Path file) throws IOException {
+        return openReadBuffer(file, MEMORY_MAP_THRESHOLD);
+    }
+
+    /**
+     * Returns the content of {@code file} as a read-only buffer, memory-mapping it if it has at least
+     * {@code mapThreshold} bytes.
+     * Smaller files are cheaper to read into a heap array than to map. Files too large for a single mapping, and all
+     * files on Windows, are also read into a heap array, because Windows cannot replace a file that is still mapped
+     * and a mapping is only released once it is garbage collected.
+     */
+    public static ByteBuffer openReadBuffer(Path file, long mapThreshold) throws IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < mapThreshold || size > Integer.MAX_VALUE || IS_WINDOWS) {
+                return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -3,13 +3,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AssignCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClosestCommand;
+import seedu.address.logic.commands.CoverageCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.AutoCompleteParser;
@@ -29,7 +33,11 @@ public class AutoCompleteSupplier {
             ExitCommand.COMMAND_WORD,
             HelpCommand.COMMAND_WORD,
             SortCommand.COMMAND_WORD,
-            ClearCommand.COMMAND_WORD);
+            ClearCommand.COMMAND_WORD,
+            ImportCommand.COMMAND_WORD,
+            ExportCommand.COMMAND_WORD,
+            AssignCommand.COMMAND_WORD,
+            CoverageCommand.COMMAND_WORD);
 
 
     /**
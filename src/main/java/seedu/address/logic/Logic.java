@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that receives the error message of an address book save that failed after its command
+     * had already returned. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Sets the handler that receives messages about the progress and outcome of exports, which run after their
+     * command has returned. The handler may be called from a background thread.
+     */
+    void setExportStatusHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until every export requested so far has finished.
+     */
+    void awaitExports();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +19,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BackgroundExporter;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,16 +36,28 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final BackgroundAddressBookSaver saver;
+    private final BackgroundExporter exporter = new BackgroundExporter();
     private final AddressBookParser addressBookParser;
     private final CommandHistory commandHistory;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * {@code Storage} that saves the address book before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and
+     * {@code Storage} that hands the address book to {@code saver} after each command instead of saving it
+     * directly. If {@code saver} is null, the address book is saved before each command returns.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
         commandHistory = new CommandHistory();
     }
@@ -52,18 +69,48 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        commandResult.getExportRequest().ifPresent(request ->
+                exporter.submit(request.getPersons(), request.getFilePath(), request.getFormat()));
+
+        if (saver != null) {
+            saver.requestSave(model.getAddressBook(), model.getMutationVersion());
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBookIfChanged(model.getAddressBook(), model.getMutationVersion());
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        if (saver != null) {
+            saver.setFailureHandler(ioe -> handler.accept(getSaveErrorMessage(ioe)));
+        }
+    }
+
+    @Override
+    public void setExportStatusHandler(Consumer<String> handler) {
+        exporter.setStatusHandler(handler);
+    }
+
+    @Override
+    public void awaitExports() {
+        exporter.flush();
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -44,8 +44,9 @@ public class Messages {
                 .append("; Address: ")
                 .append(person.getAddress())
                 .append("; Region: ")
-                .append(person.getRegion())
-                .append("; Tags: ");
+                .append(person.getRegion());
+        person.getCoordinates().ifPresent(coordinates -> builder.append("; Coordinates: ").append(coordinates));
+        builder.append("; Tags: ");
         person.getTags().forEach(builder::append);
         return builder.toString();
     }
@@ -6,12 +6,14 @@ import java.util.Comparator;
  * Comparator that compares strings in a natural order instead of lexicographical order.
  * Natural order for alphanumeric strings is a human-friendly sorting method
  * that treats numbers as whole values instead of individual digits.
- * For example, "4th" comes before "10th".
+ * For example, "4th" comes before "10th". Numbers may have any number of digits.
  */
 public class NaturalOrderComparator implements Comparator<String> {
 
     public static final Comparator<String> NATURAL_ORDER_COMPARATOR = new NaturalOrderComparator();
 
+    private static final char NUMBER_MARKER = '0';
+
     /**
      * Private constructor so there is only one comparator and cannot be modified
      */
@@ -45,31 +47,22 @@ public class NaturalOrderComparator implements Comparator<String> {
 
             //check both characters are starting sequence of number
             if (Character.isDigit(c1) && Character.isDigit(c2)) {
-                int start1 = i1;
-                int start2 = i2;
-                while (i1 < len1 && Character.isDigit(s1.charAt(i1))) {
-                    i1++;
-
-                }
-
-                while (i2 < len2 && Character.isDigit(s2.charAt(i2))) {
-                    i2++;
+                int end1 = endOfNumber(s1, i1);
+                int end2 = endOfNumber(s2, i2);
 
+                // compare numbers digit by digit so that numbers of any length can be compared
+                int cmp = compareNumbers(s1, skipLeadingZeros(s1, i1, end1), end1,
+                        s2, skipLeadingZeros(s2, i2, end2), end2);
+                if (cmp != 0) {
+                    return cmp;
                 }
 
-                int num1 = Integer.parseInt(s1.substring(start1, i1));
-                int num2 = Integer.parseInt(s2.substring(start2, i2));
-
-                // compare numbers if not equal
-                if (num1 != num2) {
-                    return Integer.compare(num1, num2);
-
-                }
+                i1 = end1;
+                i2 = end2;
 
             } else {
                 // Compare the characters normally
-                int cmp = Character.compare(Character.toLowerCase(c1),
-                        Character.toLowerCase(c2));
+                int cmp = Character.compare(toCollationChar(c1), toCollationChar(c2));
 
                 if (cmp != 0) {
                     return cmp;
@@ -82,7 +75,80 @@ public class NaturalOrderComparator implements Comparator<String> {
             }
         }
 
+        if (i1 < len1) {
+            return 1;
+        }
+        if (i2 < len2) {
+            return -1;
+        }
         return Integer.compare(len1, len2);
 
     }
+
+    /**
+     * Returns a collation key for {@code s}: comparing the keys of two strings as strings, and then the lengths of
+     * the strings if their keys are equal, orders them the same way as {@link #compare(String, String)}.
+     * Computing the keys once lets many comparisons be made without going through the strings again.
+     */
+    public static String toCollationKey(String s) {
+        StringBuilder key = new StringBuilder(s.length() + 4);
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (!Character.isDigit(c)) {
+                key.append(toCollationChar(c));
+                i++;
+                continue;
+            }
+
+            // a number is a digit, then its number of significant digits, then those digits, so that a shorter
+            // number sorts first and numbers of the same length sort by their digits
+            int end = endOfNumber(s, i);
+            int start = skipLeadingZeros(s, i, end);
+            int length = end - start;
+            key.append(NUMBER_MARKER).append((char) (length >>> 16)).append((char) length);
+            for (int j = start; j < end; j++) {
+                key.append((char) ('0' + Character.digit(s.charAt(j), 10)));
+            }
+            i = end;
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the character that {@code c} is compared as outside of a number. Every digit is compared as the same
+     * character, which lies in the same place as the digits among all other characters.
+     */
+    private static char toCollationChar(char c) {
+        return Character.isDigit(c) ? NUMBER_MARKER : Character.toLowerCase(c);
+    }
+
+    private static int endOfNumber(String s, int start) {
+        int end = start;
+        while (end < s.length() && Character.isDigit(s.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the position of the first significant digit of the number from {@code start} to {@code end}, keeping
+     * the last digit if all of them are zeros.
+     */
+    private static int skipLeadingZeros(String s, int start, int end) {
+        int position = start;
+        while (position < end - 1 && Character.digit(s.charAt(position), 10) == 0) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int compareNumbers(String s1, int start1, int end1, String s2, int start2, int end2) {
+        int cmp = Integer.compare(end1 - start1, end2 - start2);
+        for (int i = 0; cmp == 0 && start1 + i < end1; i++) {
+            cmp = Integer.compare(Character.digit(s1.charAt(start1 + i), 10),
+                    Character.digit(s2.charAt(start2 + i), 10));
+        }
+        return cmp;
+    }
 }
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.VolunteerAssignment;
+
+/**
+ * Pairs every beneficiary in the displayed person list with a volunteer in the displayed person list, keeping the
+ * total travel time between their regions as small as possible.
+ * The displayed person list then shows every paired volunteer followed by their beneficiaries.
+ */
+public class AssignCommand extends Command {
+
+    public static final String COMMAND_WORD = "assign";
+
+    public static final int DEFAULT_CAPACITY = 1;
+    /** The number of volunteers whose beneficiaries are listed in the feedback, as the list shows all of them. */
+    public static final int MAX_LISTED_VOLUNTEERS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Pairs every beneficiary in the displayed person list with a volunteer in the displayed person list, "
+            + "keeping the total travel time between their regions as small as possible. "
+            + "Each volunteer is paired with at most MAX_BENEFICIARIES beneficiaries (" + DEFAULT_CAPACITY
+            + " by default).\n"
+            + "Parameters: [" + PREFIX_CAPACITY + "MAX_BENEFICIARIES] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CAPACITY + "3";
+
+    public static final String MESSAGE_SUCCESS = "Assigned %1$d of %2$d beneficiaries to %3$d volunteers\n"
+            + "Total travel time: %4$d minutes\n"
+            + "Maximum travel time: %5$d minutes";
+    public static final String MESSAGE_UNASSIGNED = "\n%1$d beneficiaries could not be assigned, as every volunteer "
+            + "is paired with %2$d beneficiaries";
+    public static final String MESSAGE_NO_PERSONS = "There must be at least one volunteer and one beneficiary in "
+            + "the displayed person list to assign.";
+    public static final String MESSAGE_MORE_PAIRS = "\n... and %1$d more volunteers, as shown in the list";
+    public static final String SORT_STATUS = "volunteer, then assigned beneficiaries";
+    public static final String FIND_STATUS = "assigned persons";
+
+    private final int capacity;
+
+    /**
+     * Creates an AssignCommand that pairs each volunteer with at most {@code capacity} beneficiaries.
+     */
+    public AssignCommand(int capacity) {
+        checkArgument(capacity > 0, "The maximum number of beneficiaries per volunteer must be positive.");
+        this.capacity = capacity;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> volunteers = new ArrayList<>();
+        List<Person> beneficiaries = new ArrayList<>();
+        for (Person person : model.getDisplayList()) {
+            if (person.getRole() == Role.VOLUNTEER) {
+                volunteers.add(person);
+            } else {
+                beneficiaries.add(person);
+            }
+        }
+        if (volunteers.isEmpty() || beneficiaries.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        VolunteerAssignment assignment = VolunteerAssignment.assign(volunteers, beneficiaries, capacity);
+
+        // every paired volunteer is followed by their beneficiaries
+        Map<Long, Integer> positions = new HashMap<>();
+        assignment.getBeneficiariesByVolunteer().forEach((volunteer, assigned) -> {
+            positions.put(volunteer.getId(), positions.size());
+            assigned.forEach(beneficiary -> positions.put(beneficiary.getId(), positions.size()));
+        });
+        model.updateDisplayList(person -> positions.containsKey(person.getId()));
+        model.updateDisplayList(Comparator.comparingInt(person -> positions.getOrDefault(person.getId(),
+                Integer.MAX_VALUE)));
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, assignment.getAssignedCount(),
+                beneficiaries.size(), assignment.getBeneficiariesByVolunteer().size(),
+                assignment.getTotalDistance(), assignment.getMaxDistance()));
+        if (!assignment.getUnassignedBeneficiaries().isEmpty()) {
+            feedback.append(String.format(MESSAGE_UNASSIGNED, assignment.getUnassignedBeneficiaries().size(),
+                    capacity));
+        }
+        feedback.append('\n');
+        assignment.getBeneficiariesByVolunteer().entrySet().stream().limit(MAX_LISTED_VOLUNTEERS).forEach(pair ->
+                feedback.append("\n• ").append(describe(pair.getKey())).append(": ")
+                        .append(pair.getValue().stream().map(AssignCommand::describe)
+                                .collect(Collectors.joining(", "))));
+        int pairedVolunteerCount = assignment.getBeneficiariesByVolunteer().size();
+        if (pairedVolunteerCount > MAX_LISTED_VOLUNTEERS) {
+            feedback.append(String.format(MESSAGE_MORE_PAIRS, pairedVolunteerCount - MAX_LISTED_VOLUNTEERS));
+        }
+
+        return new CommandResult(feedback.toString(), false, false, SORT_STATUS, FIND_STATUS);
+    }
+
+    private static String describe(Person person) {
+        return person.getName().fullName + " (" + person.getRegion().value.getDisplayName() + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AssignCommand)) {
+            return false;
+        }
+
+        AssignCommand otherAssignCommand = (AssignCommand) other;
+        return capacity == otherAssignCommand.capacity;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("capacity", capacity)
+                .toString();
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address.logic.commands;
 
-import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -15,24 +21,38 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.KeywordMatch;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Region;
+import seedu.address.model.person.RegionDistanceOrder;
+import seedu.address.model.person.Role;
 import seedu.address.model.person.StrAttrContainsKeywords;
 import seedu.address.model.tag.Tag;
 
 /**
  * Sorts people according to how close their region is to the region of the
- * identified person.
+ * identified person, or according to how far they live from the identified person.
  */
 public class ClosestCommand extends Command {
 
     public static final String COMMAND_WORD = "closest";
 
+    public static final String MODE_REGION = "region";
+    public static final String MODE_LOCATION = "location";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Sorts all persons according to distance to region of the person identified "
             + "by the index number used in the displayed person list. "
             + "Displays only volunteers if selected beneficiary and only beneficiaries if selected volunteer.\n"
-
-            + "Parameters: INDEX (must be a positive integer) " + "Example: " + COMMAND_WORD + " 1 ";
+            + "If a count is given, displays only that many of the closest persons. "
+            + "In " + MODE_LOCATION + " mode, persons are sorted by the distance between their "
+            + "coordinates instead, and persons without coordinates come last.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_COUNT + "COUNT] (must be a positive integer) "
+            + "[" + PREFIX_MODE + MODE_REGION + "|" + MODE_LOCATION + "] "
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_COUNT + "5 " + PREFIX_MODE + MODE_LOCATION;
+
+    public static final String MESSAGE_CLOSEST_COUNT = "Filtered to the %1$d closest %2$s to %3$s";
+    public static final String MESSAGE_NEAREST = "Filtered to the %1$d nearest %2$s to %3$s by location";
+    public static final String MESSAGE_ANCHOR_NOT_LOCATED = "\n%1$s has no coordinates, so %2$s are sorted by "
+            + "region instead";
 
     public static final Predicate<Person> PREDICATE_SHOW_ALL_VOLUNTEERS = new StrAttrContainsKeywords(
             Set.of(new KeywordMatch("volunteer", false)), Person.TAG_STR_GETTER);
@@ -41,6 +61,8 @@ public class ClosestCommand extends Command {
             Set.of(new KeywordMatch("beneficiary", false)), Person.TAG_STR_GETTER);
 
     private final Index index;
+    private final OptionalInt count;
+    private final boolean isByLocation;
 
     /**
      * Creates a Closest command that sorts people according to the closeness of
@@ -49,8 +71,34 @@ public class ClosestCommand extends Command {
      * @param index of the person in the filtered person list to edit
      */
     public ClosestCommand(Index index) {
-        requireNonNull(index);
+        this(index, OptionalInt.empty(), false);
+    }
+
+    /**
+     * Creates a Closest command that displays only the {@code count} persons whose regions are closest to the
+     * region of the identified person.
+     *
+     * @param index of the person in the filtered person list to edit
+     * @param count the number of persons to display, which must be positive
+     */
+    public ClosestCommand(Index index, int count) {
+        this(index, OptionalInt.of(count), false);
+    }
+
+    /**
+     * Creates a Closest command that sorts people by the distance between where they live and where the identified
+     * person lives if {@code isByLocation} holds, or by the closeness of their regions otherwise.
+     *
+     * @param index of the person in the filtered person list to edit
+     * @param count the number of persons to display, which must be positive if present
+     * @param isByLocation whether to sort by the coordinates of persons instead of their regions
+     */
+    public ClosestCommand(Index index, OptionalInt count, boolean isByLocation) {
+        requireAllNonNull(index, count);
+        checkArgument(count.orElse(1) > 0, "The number of persons to find must be positive.");
         this.index = index;
+        this.count = count;
+        this.isByLocation = isByLocation;
     }
 
     @Override
@@ -62,6 +110,12 @@ public class ClosestCommand extends Command {
         }
 
         Person personToSortBy = lastShownList.get(index.getZeroBased());
+        if (isByLocation) {
+            return executeByLocation(model, personToSortBy);
+        }
+        if (count.isPresent()) {
+            return executeWithCount(model, personToSortBy, count.getAsInt());
+        }
 
         Comparator<Person> personComparator = createClosestComparator(personToSortBy);
 
@@ -80,6 +134,53 @@ public class ClosestCommand extends Command {
                 false, false, resultSort.getSortStatusText(), resultFind.getFindStatusText());
     }
 
+    /**
+     * Displays only the {@code count} persons of the other role whose regions are closest to the region of
+     * {@code personToSortBy}, looking them up in the region index of the model instead of going through every person.
+     */
+    private CommandResult executeWithCount(Model model, Person personToSortBy, int count) {
+        Role role = personToSortBy.getRole() == Role.VOLUNTEER ? Role.BENEFICIARY : Role.VOLUNTEER;
+        Set<Long> closestIds = model.getClosestPersons(personToSortBy, role, count).stream()
+                .map(Person::getId)
+                .collect(Collectors.toSet());
+
+        CommandResult resultFind = new FindCommand(person -> closestIds.contains(person.getId()),
+                Map.of(PREFIX_TAG, Set.of(new KeywordMatch(role.getTagName(), false)))).execute(model);
+
+        String regionName = personToSortBy.getRegion().value.getDisplayName();
+        CommandResult resultSort = new SortCommand(createClosestComparator(personToSortBy),
+                "closest %s to %s".formatted(role.getTagName(), regionName)).execute(model);
+
+        return new CommandResult(MESSAGE_CLOSEST_COUNT.formatted(closestIds.size(), role.getTagName(), regionName),
+                false, false, resultSort.getSortStatusText(), resultFind.getFindStatusText());
+    }
+
+    /**
+     * Displays the persons of the other role nearest to where {@code personToSortBy} lives, or only {@code count} of
+     * them if a count is given, looking them up in the location index of the model.
+     */
+    private CommandResult executeByLocation(Model model, Person personToSortBy) {
+        Role role = personToSortBy.getRole() == Role.VOLUNTEER ? Role.BENEFICIARY : Role.VOLUNTEER;
+        List<Person> nearest = model.getNearestPersons(personToSortBy, role, count.orElse(Integer.MAX_VALUE));
+        Map<Long, Integer> positions = new HashMap<>();
+        nearest.forEach(person -> positions.put(person.getId(), positions.size()));
+
+        CommandResult resultFind = new FindCommand(person -> positions.containsKey(person.getId()),
+                Map.of(PREFIX_TAG, Set.of(new KeywordMatch(role.getTagName(), false)))).execute(model);
+
+        String name = personToSortBy.getName().fullName;
+        CommandResult resultSort = new SortCommand(Comparator.<Person>comparingInt(person ->
+                positions.getOrDefault(person.getId(), Integer.MAX_VALUE)),
+                "nearest %s to %s".formatted(role.getTagName(), name)).execute(model);
+
+        String feedback = MESSAGE_NEAREST.formatted(nearest.size(), role.getTagName(), name);
+        if (personToSortBy.getCoordinates().isEmpty()) {
+            feedback += MESSAGE_ANCHOR_NOT_LOCATED.formatted(name, role.getTagName());
+        }
+        return new CommandResult(feedback, false, false, resultSort.getSortStatusText(),
+                resultFind.getFindStatusText());
+    }
+
     /**
      * Creates a Person comparator that sorts people according to how close
      * their region is to the region of the given person.
@@ -89,25 +190,7 @@ public class ClosestCommand extends Command {
      * @return personComparator
      */
     public static Comparator<Person> createClosestComparator(Person personToCompareTo) {
-        Region regionToCompareTo = personToCompareTo.getRegion();
-
-        return (Person o1, Person o2) -> {
-            if (o1.equals(personToCompareTo)) {
-                return -1;
-            }
-            if (o2.equals(personToCompareTo)) {
-                return 1;
-            }
-
-            Region r1 = o1.getRegion();
-            Region r2 = o2.getRegion();
-
-            int distDiff = r1.getDistanceFrom(regionToCompareTo) - r2.getDistanceFrom(regionToCompareTo);
-
-            int nameDiff = r1.value.getDisplayName().compareTo(r2.value.getDisplayName());
-
-            return distDiff == 0 ? nameDiff : distDiff;
-        };
+        return new RegionDistanceOrder(personToCompareTo);
     }
 
     @Override
@@ -122,7 +205,9 @@ public class ClosestCommand extends Command {
         }
 
         ClosestCommand otherClosestCommand = (ClosestCommand) other;
-        return index.equals(otherClosestCommand.index);
+        return index.equals(otherClosestCommand.index)
+                && count.equals(otherClosestCommand.count)
+                && isByLocation == otherClosestCommand.isByLocation;
 
     }
 }
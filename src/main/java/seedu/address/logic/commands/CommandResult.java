@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -21,6 +22,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Persons to write to a file in the background, or null if there are none. */
+    private final ExportRequest exportRequest;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields and Status Text
      * @param sortStatusText sort status text to be updated, only updated if non-null
@@ -38,9 +42,7 @@ public class CommandResult {
      * Does not update sort or find status text
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
-        this.feedbackToUser = requireNonNull(feedbackToUser);
-        this.showHelp = showHelp;
-        this.exit = exit;
+        this(feedbackToUser, showHelp, exit, null);
     }
 
     /**
@@ -52,6 +54,21 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and a request to export persons
+     * once the command has finished, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, ExportRequest exportRequest) {
+        this(feedbackToUser, false, false, requireNonNull(exportRequest));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, ExportRequest exportRequest) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = showHelp;
+        this.exit = exit;
+        this.exportRequest = exportRequest;
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -72,6 +89,10 @@ public class CommandResult {
         return findStatusText;
     }
 
+    public Optional<ExportRequest> getExportRequest() {
+        return Optional.ofNullable(exportRequest);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -86,12 +107,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(exportRequest, otherCommandResult.exportRequest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, exportRequest);
     }
 
     @Override
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.CoverageReport;
+import seedu.address.model.person.ValidRegion;
+
+/**
+ * Reports how far every beneficiary in the address book is from the nearest volunteer.
+ * The displayed person list then shows every beneficiary, furthest from a volunteer first.
+ */
+public class CoverageCommand extends Command {
+
+    public static final String COMMAND_WORD = "coverage";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists every beneficiary by the travel time from their region to the nearest region with a "
+            + "volunteer, largest first, with the number of volunteers and beneficiaries in every region.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$d of %2$d beneficiaries have no volunteer in their region\n"
+            + "Largest gap: %3$s";
+    public static final String MESSAGE_REGION = "\n• %1$s: %2$d volunteers, %3$d beneficiaries, gap %4$s";
+    public static final String MESSAGE_NO_BENEFICIARIES = "There are no beneficiaries in the address book.";
+    public static final String NO_VOLUNTEER_GAP = "no volunteer reachable";
+    public static final String SORT_STATUS = "furthest from a volunteer";
+    public static final String FIND_STATUS = "beneficiaries";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        CoverageReport report = CoverageReport.of(model.getAddressBook().getPersonList());
+        if (report.getRankedBeneficiaries().isEmpty()) {
+            throw new CommandException(MESSAGE_NO_BENEFICIARIES);
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        report.getRankedBeneficiaries().forEach(beneficiary -> positions.put(beneficiary.getId(), positions.size()));
+        model.updateDisplayList(person -> positions.containsKey(person.getId()));
+        model.updateDisplayList(Comparator.comparingInt(person -> positions.getOrDefault(person.getId(),
+                Integer.MAX_VALUE)));
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, report.getUncoveredCount(),
+                report.getRankedBeneficiaries().size(), describeGap(report.getGap(report.getRankedBeneficiaries()
+                        .get(0)))));
+        feedback.append('\n');
+        for (ValidRegion region : report.getRegionsByGap()) {
+            if (report.getVolunteerCount(region) > 0 || report.getBeneficiaryCount(region) > 0) {
+                feedback.append(String.format(MESSAGE_REGION, region.getDisplayName(),
+                        report.getVolunteerCount(region), report.getBeneficiaryCount(region),
+                        describeGap(report.getGap(region))));
+            }
+        }
+
+        return new CommandResult(feedback.toString(), false, false, SORT_STATUS, FIND_STATUS);
+    }
+
+    private static String describeGap(int gap) {
+        return gap == CoverageReport.NO_VOLUNTEER ? NO_VOLUNTEER_GAP : gap + " minutes";
+    }
+}
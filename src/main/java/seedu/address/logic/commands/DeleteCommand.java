@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -39,27 +41,21 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getDisplayList();
 
-        List<Index> sortedIndices = new ArrayList<>();
-        for (Index index : targetIndices) {
-            if (!sortedIndices.contains(index)) {
-                sortedIndices.add(index);
-            }
+        // Duplicate indices collapse in the set, and the highest index is listed first
+        SortedSet<Index> sortedIndices = new TreeSet<>(Comparator.comparing(Index::getZeroBased).reversed());
+        sortedIndices.addAll(targetIndices);
+        if (!sortedIndices.isEmpty() && sortedIndices.first().getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        sortedIndices.sort(Comparator.comparing(Index::getZeroBased).reversed());
         List<Person> personsToDelete = new ArrayList<>();
-        for (Index index : sortedIndices) {
-            if (index.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            }
-            personsToDelete.add(lastShownList.get(index.getZeroBased()));
-        }
-
         StringBuilder personsInfo = new StringBuilder();
-        for (Person personToDelete : personsToDelete) {
+        for (Index index : sortedIndices) {
+            Person personToDelete = lastShownList.get(index.getZeroBased());
+            personsToDelete.add(personToDelete);
             personsInfo.append(Messages.format(personToDelete)).append("\n");
-            model.deletePerson(personToDelete);
         }
+        model.deletePersons(personsToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personsInfo));
     }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -23,10 +24,12 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.PostalCodeGeocoder;
 import seedu.address.model.person.Region;
 import seedu.address.model.tag.Tag;
 
@@ -47,6 +50,7 @@ public class EditCommand extends Command {
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_ADDRESS + "ADDRESS] "
             + "[" + PREFIX_REGION + "REGION] "
+            + "[" + PREFIX_COORDINATES + "LATITUDE,LONGITUDE] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
@@ -111,8 +115,15 @@ public class EditCommand extends Command {
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Region region = editPersonDescriptor.getRegion().orElse(personToEdit.getRegion());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, region, updatedTags);
+        // coordinates of the old address are dropped with it, unless the new address has a known postal code
+        Coordinates updatedCoordinates = editPersonDescriptor.getCoordinates()
+                .or(() -> editPersonDescriptor.getAddress().isPresent()
+                        ? PostalCodeGeocoder.findCoordinatesOfAddress(updatedAddress.value)
+                        : personToEdit.getCoordinates())
+                .orElse(null);
+
+        return new Person(Person.NO_ID, updatedName, updatedPhone, updatedEmail, updatedAddress, region, updatedTags,
+                updatedCoordinates);
     }
 
     @Override
@@ -149,6 +160,7 @@ public class EditCommand extends Command {
         private Email email;
         private Address address;
         private Region region;
+        private Coordinates coordinates;
         private Set<Tag> tags;
 
         public EditPersonDescriptor() {}
@@ -163,6 +175,7 @@ public class EditCommand extends Command {
             setEmail(toCopy.email);
             setAddress(toCopy.address);
             setRegion(toCopy.region);
+            setCoordinates(toCopy.coordinates);
             setTags(toCopy.tags);
         }
 
@@ -170,7 +183,7 @@ public class EditCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, phone, email, address, region, tags);
+            return CollectionUtil.isAnyNonNull(name, phone, email, address, region, coordinates, tags);
         }
 
         public void setName(Name name) {
@@ -213,6 +226,14 @@ public class EditCommand extends Command {
             return Optional.ofNullable(region);
         }
 
+        public void setCoordinates(Coordinates coordinates) {
+            this.coordinates = coordinates;
+        }
+
+        public Optional<Coordinates> getCoordinates() {
+            return Optional.ofNullable(coordinates);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -247,7 +268,8 @@ public class EditCommand extends Command {
                     && Objects.equals(email, otherEditPersonDescriptor.email)
                     && Objects.equals(address, otherEditPersonDescriptor.address)
                     && Objects.equals(tags, otherEditPersonDescriptor.tags)
-                    && Objects.equals(region, otherEditPersonDescriptor.region);
+                    && Objects.equals(region, otherEditPersonDescriptor.region)
+                    && Objects.equals(coordinates, otherEditPersonDescriptor.coordinates);
         }
 
         @Override
@@ -258,6 +280,7 @@ public class EditCommand extends Command {
                     .add("email", email)
                     .add("address", address)
                     .add("region", region)
+                    .add("coordinates", coordinates)
                     .add("tags", tags)
                     .toString();
         }
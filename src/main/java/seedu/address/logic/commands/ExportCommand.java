@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports the persons in the displayed person list, in their displayed order, to a CSV, JSON or vCard file.
+ * The command only takes a snapshot of the list; the file is written in the background afterwards.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the persons in the displayed person list to a file.\n"
+            + "Parameters: FILE_PATH (must end with " + ExportFormat.CSV.getExtension() + ", "
+            + ExportFormat.JSON.getExtension() + " or " + ExportFormat.VCARD.getExtension() + ")\n"
+            + "Example: " + COMMAND_WORD + " exports/volunteers.csv";
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Persons can only be exported to "
+            + ExportFormat.CSV.getExtension() + ", " + ExportFormat.JSON.getExtension() + " or "
+            + ExportFormat.VCARD.getExtension() + " files.";
+    public static final String MESSAGE_STARTED = "Exporting %1$d person(s) to %2$s...";
+    public static final String MESSAGE_NO_PERSONS = "There are no persons in the displayed list to export.";
+    public static final String MESSAGE_DATA_FILE = "Persons cannot be exported to the data file %1$s or to the files "
+            + "saved next to it.";
+
+    private final Path filePath;
+    private final ExportFormat format;
+
+    /**
+     * Creates an ExportCommand to export the displayed persons to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, ExportFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isDataFile(filePath, model.getAddressBookFilePath())) {
+            throw new CommandException(String.format(MESSAGE_DATA_FILE, model.getAddressBookFilePath()));
+        }
+        List<Person> displayedPersons = model.getDisplayList();
+        if (displayedPersons.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        ExportRequest request = new ExportRequest(displayedPersons, filePath, format);
+        return new CommandResult(String.format(MESSAGE_STARTED, displayedPersons.size(), filePath), request);
+    }
+
+    /**
+     * Returns true if {@code filePath} is the data file at {@code dataFilePath} or one of the files saved next to it
+     * while it is written, whose names all start with the name of the data file and a dot.
+     */
+    private static boolean isDataFile(Path filePath, Path dataFilePath) {
+        Path target = filePath.toAbsolutePath().normalize();
+        Path dataFile = dataFilePath.toAbsolutePath().normalize();
+        return target.equals(dataFile) || (Objects.equals(target.getParent(), dataFile.getParent())
+                && target.getFileName().toString().startsWith(dataFile.getFileName() + "."));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A request, returned by a command, to write a snapshot of persons to a file once the command has finished.
+ */
+public class ExportRequest {
+
+    private final List<Person> persons;
+    private final Path filePath;
+    private final ExportFormat format;
+
+    /**
+     * Creates a request to export a copy of {@code persons} to {@code filePath} in {@code format}.
+     */
+    public ExportRequest(List<Person> persons, Path filePath, ExportFormat format) {
+        requireAllNonNull(persons, filePath, format);
+        this.persons = List.copyOf(persons);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Returns the persons to export as an unmodifiable list.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportRequest)) {
+            return false;
+        }
+
+        ExportRequest otherExportRequest = (ExportRequest) other;
+        return persons.equals(otherExportRequest.persons)
+                && filePath.equals(otherExportRequest.filePath)
+                && format == otherExportRequest.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, filePath, format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", persons.size())
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
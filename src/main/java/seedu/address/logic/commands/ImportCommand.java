@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ImportFileParser;
+import seedu.address.logic.parser.PersonRecord;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds every person in a CSV or JSON file to the address book.
+ * Either all persons in the file are added or, if any of them is invalid or a duplicate, none is.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds every person in a CSV or JSON file to the address book.\n"
+            + "A CSV file must start with the header: " + String.join(",", CsvUtil.PERSON_COLUMNS) + "\n"
+            + "Parameters: FILE_PATH (must end with " + ImportFileParser.CSV_EXTENSION + " or "
+            + ImportFileParser.JSON_EXTENSION + ")\n"
+            + "Example: " + COMMAND_WORD + " data/volunteers.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NO_PERSONS = "There are no persons to import in %1$s";
+    public static final String MESSAGE_INVALID_RECORDS = "Nothing was imported because %1$d person(s) in %2$s "
+            + "have errors:\n%3$s";
+    public static final String MESSAGE_RECORD_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_EXISTING_PERSON = "This person already exists in the address book.";
+    public static final String MESSAGE_REPEATED_PERSON = "This person appears earlier in the file.";
+
+    /** The largest number of record errors listed in the result, so that a bad file does not flood the display. */
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<PersonRecord> records;
+        try {
+            records = ImportFileParser.readRecords(filePath);
+        } catch (IOException | ParseException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        }
+        if (records.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_PERSONS, filePath));
+        }
+
+        // Records are independent of each other, so they are validated in parallel
+        Person[] persons = new Person[records.size()];
+        String[] errors = new String[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = records.get(i).toPerson();
+            } catch (ParseException pe) {
+                errors[i] = pe.getMessage();
+            }
+        });
+
+        List<Person> personsToAdd = new ArrayList<>(records.size());
+        List<String> errorMessages = new ArrayList<>();
+        Set<String> identityKeys = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            if (errors[i] == null && model.hasPerson(persons[i])) {
+                errors[i] = MESSAGE_EXISTING_PERSON;
+            } else if (errors[i] == null && !identityKeys.add(persons[i].getIdentityKey())) {
+                errors[i] = MESSAGE_REPEATED_PERSON;
+            }
+
+            if (errors[i] == null) {
+                personsToAdd.add(persons[i]);
+            } else {
+                errorMessages.add(String.format(MESSAGE_RECORD_ERROR, records.get(i).getLineNumber(), errors[i]));
+            }
+        }
+        if (!errorMessages.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_RECORDS, errorMessages.size(), filePath,
+                    describeErrors(errorMessages)));
+        }
+
+        model.addPersons(personsToAdd);
+        model.updateDisplayList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personsToAdd.size(), filePath),
+                false, false, null, "");
+    }
+
+    private static String describeErrors(List<String> errorMessages) {
+        StringBuilder description = new StringBuilder();
+        errorMessages.stream().limit(MAX_REPORTED_ERRORS).forEach(message -> description.append(message).append("\n"));
+        if (errorMessages.size() > MAX_REPORTED_ERRORS) {
+            description.append(String.format(MESSAGE_MORE_ERRORS, errorMessages.size() - MAX_REPORTED_ERRORS));
+        }
+        return description.toString().trim();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AssignCommand object
+ */
+public class AssignCommandParser implements Parser<AssignCommand> {
+
+    public static final String MESSAGE_INVALID_CAPACITY =
+            "The maximum number of beneficiaries per volunteer must be a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AssignCommand
+     * and returns an AssignCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AssignCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CAPACITY);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CAPACITY);
+        Optional<String> capacity = argMultimap.getValue(PREFIX_CAPACITY).map(String::trim);
+        if (capacity.isEmpty()) {
+            return new AssignCommand(AssignCommand.DEFAULT_CAPACITY);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(capacity.get())) {
+            throw new ParseException(MESSAGE_INVALID_CAPACITY);
+        }
+        return new AssignCommand(Integer.parseInt(capacity.get()));
+    }
+}
@@ -12,5 +12,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_REGION = new Prefix("r/");
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
+    public static final Prefix PREFIX_CAPACITY = new Prefix("c/");
+    public static final Prefix PREFIX_COORDINATES = new Prefix("g/");
+    public static final Prefix PREFIX_MODE = new Prefix("m/");
 
 }
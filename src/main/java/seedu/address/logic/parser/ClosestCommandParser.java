@@ -2,8 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.util.Optional;
+import java.util.OptionalInt;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ClosestCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -12,6 +18,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ClosestCommandParser implements Parser<ClosestCommand> {
 
+    public static final String MESSAGE_INVALID_COUNT = "The number of closest persons must be a positive integer.";
+    public static final String MESSAGE_INVALID_MODE = "The mode must be " + ClosestCommand.MODE_REGION + " or "
+            + ClosestCommand.MODE_LOCATION + ".";
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * ClosestCommand and returns a ClosestCommand object for execution.
@@ -20,7 +30,7 @@ public class ClosestCommandParser implements Parser<ClosestCommand> {
      */
     public ClosestCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COUNT, PREFIX_MODE);
 
         Index index;
 
@@ -30,6 +40,32 @@ public class ClosestCommandParser implements Parser<ClosestCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClosestCommand.MESSAGE_USAGE), pe);
         }
 
-        return new ClosestCommand(index);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_COUNT, PREFIX_MODE);
+        boolean isByLocation = parseMode(argMultimap.getValue(PREFIX_MODE));
+        if (argMultimap.getValue(PREFIX_COUNT).isEmpty()) {
+            return new ClosestCommand(index, OptionalInt.empty(), isByLocation);
+        }
+
+        String count = argMultimap.getValue(PREFIX_COUNT).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return new ClosestCommand(index, OptionalInt.of(Integer.parseInt(count)), isByLocation);
+    }
+
+    /**
+     * Returns true if {@code mode} is the location mode, and false if it is absent or the region mode.
+     *
+     * @throws ParseException if {@code mode} is neither mode.
+     */
+    private static boolean parseMode(Optional<String> mode) throws ParseException {
+        String trimmedMode = mode.orElse(ClosestCommand.MODE_REGION).trim().toLowerCase();
+        if (trimmedMode.equals(ClosestCommand.MODE_LOCATION)) {
+            return true;
+        }
+        if (!trimmedMode.equals(ClosestCommand.MODE_REGION)) {
+            throw new ParseException(MESSAGE_INVALID_MODE);
+        }
+        return false;
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -33,7 +34,8 @@ public class EditCommandParser implements Parser<EditCommand> {
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_REGION, PREFIX_TAG);
+                args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_REGION, PREFIX_COORDINATES,
+                PREFIX_TAG);
 
         Index index;
 
@@ -44,7 +46,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(
-                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_REGION, PREFIX_ADDRESS);
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_REGION, PREFIX_ADDRESS, PREFIX_COORDINATES);
 
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
 
@@ -62,6 +64,13 @@ public class EditCommandParser implements Parser<EditCommand> {
         }
         if (argMultimap.getValue(PREFIX_REGION).isPresent()) {
             editPersonDescriptor.setRegion(ParserUtil.parseRegion(argMultimap.getValue(PREFIX_REGION).get()));
+        } else if (editPersonDescriptor.getAddress().isPresent()) {
+            // a new address with a known postal code moves the person to its region
+            ParserUtil.inferRegion(editPersonDescriptor.getAddress().get()).ifPresent(editPersonDescriptor::setRegion);
+        }
+        if (argMultimap.getValue(PREFIX_COORDINATES).isPresent()) {
+            editPersonDescriptor.setCoordinates(
+                    ParserUtil.parseCoordinates(argMultimap.getValue(PREFIX_COORDINATES).get()));
         }
 
         Optional<Set<Tag>> tags = parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG));
@@ -0,0 +1,219 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads the persons in a CSV or JSON file into {@link PersonRecord}s without validating their fields.
+ * <p>
+ * A CSV file starts with a header naming the {@link CsvUtil#PERSON_COLUMNS} in any order, followed by one person
+ * per line. The {@link #OPTIONAL_CSV_COLUMNS} may be left out, as they are in files exported before coordinates were
+ * added. The tags of a person are separated by spaces or semicolons. A JSON file holds either a list of persons or an
+ * object with a {@code persons} list, as in the data file. Both formats are read one record at a time.
+ */
+public class ImportFileParser {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_EXTENSION = ".json";
+    /** The columns of a CSV file that may be missing, leaving their fields missing on every line. */
+    public static final Set<String> OPTIONAL_CSV_COLUMNS = Set.of("latitude", "longitude");
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only " + CSV_EXTENSION + " and " + JSON_EXTENSION
+            + " files can be imported.";
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file has no header line.";
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV header has no %1$s column.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_NOT_PERSON_LIST =
+            "The JSON file must hold a list of persons, or an object with a \"persons\" list.";
+    public static final String MESSAGE_NOT_PERSON_OBJECT = "Expected a person object.";
+
+    private static final String TAG_SEPARATORS = "[;\\s]+";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final int MISSING_COLUMN = -1;
+
+    /**
+     * Returns true if {@code filePath} has the extension of a file that can be imported.
+     */
+    public static boolean isSupportedFile(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(CSV_EXTENSION) || fileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Returns one record for every person in the file at {@code filePath}, in file order.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws ParseException if the file as a whole is not laid out as an import file.
+     */
+    public static List<PersonRecord> readRecords(Path filePath) throws IOException, ParseException {
+        requireNonNull(filePath);
+        if (!isSupportedFile(filePath)) {
+            throw new ParseException(MESSAGE_UNSUPPORTED_FILE);
+        }
+        String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(CSV_EXTENSION) ? readCsvRecords(filePath) : readJsonRecords(filePath);
+    }
+
+    private static List<PersonRecord> readCsvRecords(Path filePath) throws IOException, ParseException {
+        List<PersonRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            int[] columnPositions = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith(BYTE_ORDER_MARK)) {
+                    line = line.substring(BYTE_ORDER_MARK.length());
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (columnPositions == null) {
+                    columnPositions = parseCsvHeader(line);
+                } else {
+                    records.add(parseCsvRecord(lineNumber, line, columnPositions));
+                }
+            }
+            if (columnPositions == null) {
+                throw new ParseException(MESSAGE_MISSING_HEADER);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the position of each of the {@link CsvUtil#PERSON_COLUMNS} in the header {@code line}, or
+     * {@link #MISSING_COLUMN} for an optional column that is not in it.
+     */
+    private static int[] parseCsvHeader(String line) throws ParseException {
+        List<String> headers;
+        try {
+            headers = CsvUtil.parseLine(line);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+
+        Map<String, Integer> positionByHeader = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            positionByHeader.putIfAbsent(headers.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        int[] columnPositions = new int[CsvUtil.PERSON_COLUMNS.size()];
+        for (int i = 0; i < CsvUtil.PERSON_COLUMNS.size(); i++) {
+            Integer position = positionByHeader.get(CsvUtil.PERSON_COLUMNS.get(i));
+            if (position == null && !OPTIONAL_CSV_COLUMNS.contains(CsvUtil.PERSON_COLUMNS.get(i))) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, CsvUtil.PERSON_COLUMNS.get(i)));
+            }
+            columnPositions[i] = position == null ? MISSING_COLUMN : position;
+        }
+        return columnPositions;
+    }
+
+    private static PersonRecord parseCsvRecord(int lineNumber, String line, int[] columnPositions) {
+        List<String> fields;
+        try {
+            fields = CsvUtil.parseLine(line);
+        } catch (IllegalValueException ive) {
+            return PersonRecord.malformed(lineNumber, ive.getMessage());
+        }
+        int expectedFieldCount = Arrays.stream(columnPositions).max().getAsInt() + 1;
+        if (fields.size() < expectedFieldCount) {
+            return PersonRecord.malformed(lineNumber,
+                    String.format(MESSAGE_WRONG_FIELD_COUNT, expectedFieldCount, fields.size()));
+        }
+
+        Map<String, String> fieldByColumn = new HashMap<>();
+        for (int i = 0; i < CsvUtil.PERSON_COLUMNS.size(); i++) {
+            if (columnPositions[i] != MISSING_COLUMN) {
+                fieldByColumn.put(CsvUtil.PERSON_COLUMNS.get(i), fields.get(columnPositions[i]));
+            }
+        }
+        return new PersonRecord(lineNumber, fieldByColumn.get("name"), fieldByColumn.get("phone"),
+                fieldByColumn.get("email"), fieldByColumn.get("address"), fieldByColumn.get("region"),
+                fieldByColumn.get("latitude"), fieldByColumn.get("longitude"), splitTags(fieldByColumn.get("tags")));
+    }
+
+    private static List<String> splitTags(String tags) {
+        String trimmedTags = tags.trim();
+        return trimmedTags.isEmpty() ? List.of() : Arrays.asList(trimmedTags.split(TAG_SEPARATORS));
+    }
+
+    private static List<PersonRecord> readJsonRecords(Path filePath) throws IOException, ParseException {
+        List<PersonRecord> records = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            moveToPersonList(parser);
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new ParseException(MESSAGE_NOT_PERSON_LIST);
+                }
+                int lineNumber = parser.getTokenLocation().getLineNr();
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    records.add(PersonRecord.malformed(lineNumber, MESSAGE_NOT_PERSON_OBJECT));
+                    continue;
+                }
+                records.add(toRecord(lineNumber, parser.readValueAsTree()));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Advances {@code parser} to the start of the list of persons.
+     */
+    private static void moveToPersonList(JsonParser parser) throws IOException, ParseException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                token = parser.nextToken();
+                if ("persons".equals(fieldName)) {
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new ParseException(MESSAGE_NOT_PERSON_LIST);
+        }
+    }
+
+    private static PersonRecord toRecord(int lineNumber, JsonNode person) {
+        List<String> tags = new ArrayList<>();
+        for (JsonNode tag : person.path("tags")) {
+            tags.add(tag.asText());
+        }
+        return new PersonRecord(lineNumber, textOf(person, "name"), textOf(person, "phone"), textOf(person, "email"),
+                textOf(person, "address"), textOf(person, "region"), textOf(person, "latitude"),
+                textOf(person, "longitude"), tags);
+    }
+
+    private static String textOf(JsonNode person, String fieldName) {
+        JsonNode field = person.get(fieldName);
+        return field == null || field.isNull() ? null : field.asText();
+    }
+
+}
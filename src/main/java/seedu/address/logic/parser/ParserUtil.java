@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -20,9 +21,12 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.PostalCodeGeocoder;
 import seedu.address.model.person.Region;
 import seedu.address.model.tag.Tag;
 
@@ -34,6 +38,8 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_PREFIX = "Prefix provided is not valid for this attribute.";
+    public static final String MESSAGE_REGION_NOT_INFERRED = "No region was given, and the address has no postal code "
+            + "whose region is known. Give the region with r/REGION.";
     public static final String PREFIX_SYMBOL = "%";
     private static record ValidationRule(
             Predicate<String> wordValidator, Predicate<String> prefixValidator, String messageConstraint){}
@@ -187,6 +193,31 @@ public class ParserUtil {
         return new Region(trimmedRegionName);
     }
 
+    /**
+     * Parses a {@code String coordinates} of a latitude and a longitude separated by a comma into a
+     * {@code Coordinates}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code coordinates} are invalid.
+     */
+    public static Coordinates parseCoordinates(String coordinates) throws ParseException {
+        requireNonNull(coordinates);
+        String trimmedCoordinates = coordinates.trim();
+        if (!Coordinates.isValidCoordinates(trimmedCoordinates)) {
+            throw new ParseException(Coordinates.MESSAGE_CONSTRAINTS);
+        }
+        return new Coordinates(trimmedCoordinates);
+    }
+
+    /**
+     * Returns the region of the postal code in {@code address}, if it has one whose region is known.
+     */
+    public static Optional<Region> inferRegion(Address address) {
+        requireNonNull(address);
+        return PostalCodeGeocoder.findRegionOfAddress(address.value)
+                .map(validRegion -> new Region(validRegion.getDisplayName()));
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -213,4 +244,33 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Parses the fields of a person into a {@code Person}.
+     * Exactly one of the tags must be {@code volunteer} or {@code beneficiary}.
+     * If {@code region} is empty, the region is inferred from the postal code in {@code address}, and so are the
+     * coordinates if {@code coordinates} is empty.
+     *
+     * @throws ParseException if any of the fields is invalid, or the region is empty and cannot be inferred.
+     */
+    public static Person parsePerson(String name, String phone, String email, String address, Optional<String> region,
+            Optional<String> coordinates, Collection<String> tags) throws ParseException {
+        Name modelName = parseName(name);
+        Phone modelPhone = parsePhone(phone);
+        Email modelEmail = parseEmail(email);
+        Address modelAddress = parseAddress(address);
+        Region modelRegion = region.isPresent()
+                ? parseRegion(region.get())
+                : inferRegion(modelAddress).orElseThrow(() -> new ParseException(MESSAGE_REGION_NOT_INFERRED));
+        Coordinates modelCoordinates = coordinates.isPresent()
+                ? parseCoordinates(coordinates.get())
+                : PostalCodeGeocoder.findCoordinatesOfAddress(modelAddress.value).orElse(null);
+        Set<Tag> modelTags = parseTags(tags);
+
+        if (modelTags.contains(new Tag("volunteer")) == modelTags.contains(new Tag("beneficiary"))) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return new Person(Person.NO_ID, modelName, modelPhone, modelEmail, modelAddress, modelRegion, modelTags,
+                modelCoordinates);
+    }
 }
@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * The unvalidated fields of one person read from an import file, together with the line it starts on.
+ * A record whose line could not be split into fields carries the reason instead of its fields.
+ */
+public class PersonRecord {
+
+    public static final String MESSAGE_MISSING_FIELD = "The %1$s field is missing.";
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String region;
+    private final String latitude;
+    private final String longitude;
+    private final List<String> tags = new ArrayList<>();
+    private final String formatError;
+
+    /**
+     * Creates a record with the given fields. Any field except {@code tags} may be null if it was not in the file.
+     */
+    public PersonRecord(int lineNumber, String name, String phone, String email, String address, String region,
+            String latitude, String longitude, List<String> tags) {
+        requireNonNull(tags);
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.region = region;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.tags.addAll(tags);
+        this.formatError = null;
+    }
+
+    private PersonRecord(int lineNumber, String formatError) {
+        this.lineNumber = lineNumber;
+        this.name = null;
+        this.phone = null;
+        this.email = null;
+        this.address = null;
+        this.region = null;
+        this.latitude = null;
+        this.longitude = null;
+        this.formatError = formatError;
+    }
+
+    /**
+     * Creates a record for a line that could not be split into fields because of {@code formatError}.
+     */
+    public static PersonRecord malformed(int lineNumber, String formatError) {
+        requireNonNull(formatError);
+        return new PersonRecord(lineNumber, formatError);
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Converts this record into a {@code Person}, applying the same rules as the add command.
+     * A missing or blank region is inferred from the postal code in the address, and missing or blank coordinates
+     * are taken from the centre of the area of that postal code.
+     *
+     * @throws ParseException if the record is malformed, a field is missing or a field is invalid.
+     */
+    public Person toPerson() throws ParseException {
+        if (formatError != null) {
+            throw new ParseException(formatError);
+        }
+        return ParserUtil.parsePerson(requireField(name, "name"), requireField(phone, "phone"),
+                requireField(email, "email"), requireField(address, "address"),
+                Optional.ofNullable(region).filter(value -> !value.isBlank()), joinCoordinates(), tags);
+    }
+
+    /**
+     * Returns the latitude and longitude separated by a comma, or an empty {@code Optional} if both are missing.
+     *
+     * @throws ParseException if only one of them is given.
+     */
+    private Optional<String> joinCoordinates() throws ParseException {
+        boolean hasLatitude = latitude != null && !latitude.isBlank();
+        boolean hasLongitude = longitude != null && !longitude.isBlank();
+        if (!hasLatitude && !hasLongitude) {
+            return Optional.empty();
+        }
+        return Optional.of(requireField(hasLatitude ? latitude : null, "latitude") + ","
+                + requireField(hasLongitude ? longitude : null, "longitude"));
+    }
+
+    private static String requireField(String value, String fieldName) throws ParseException {
+        if (value == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, fieldName));
+        }
+        return value;
+    }
+
+}
@@ -1,7 +1,6 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.NaturalOrderComparator.NATURAL_ORDER_COMPARATOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -9,7 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -17,6 +16,7 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttributeSortOrder;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,20 +52,12 @@ public class SortCommandParser implements Parser<SortCommand> {
                 .collect(Collectors.toList());
 
 
-        Comparator<Person> personComparator = null;
-        for (int i = 0; i < prefixList.size(); i++) {
-            Prefix prefix = prefixList.get(i);
-            Function<Person, String> personPrefixValue = getPersonPrefixValue(prefix);
-            if (i == 0) {
-                personComparator = Comparator.comparing(personPrefixValue, NATURAL_ORDER_COMPARATOR);
-
-            } else {
-                personComparator = personComparator.thenComparing(personPrefixValue, NATURAL_ORDER_COMPARATOR);
-            }
-
+        List<Function<Person, String>> attributeGetters = new ArrayList<>();
+        for (Prefix prefix : prefixList) {
+            attributeGetters.add(getPersonPrefixValue(prefix));
         }
 
-        return new SortCommand(personComparator, prefixList);
+        return new SortCommand(new AttributeSortOrder(attributeGetters), prefixList);
 
     }
 
@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Role;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.ValidRegion;
 
 /**
  * Wraps all data at the address-book level
@@ -86,6 +90,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Adds all persons in {@code persons} to the address book at once.
+     * No person in {@code persons} may already exist in the address book or appear in it twice.
+     */
+    public void addPersons(Collection<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -94,6 +106,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes every person in {@code keys} from this {@code AddressBook} at once.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     //// util methods
 
     @Override
@@ -108,6 +128,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the words in the searchable attributes of the persons in this address book.
+     * The index must not be modified.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns up to {@code count} persons with {@code role} whose regions are closest to {@code origin}, nearest
+     * first.
+     */
+    public List<Person> findClosestPersons(ValidRegion origin, Role role, int count) {
+        return persons.findClosest(origin, role, count);
+    }
+
+    /**
+     * Returns up to {@code count} persons with {@code role} nearest to where {@code anchor} lives, nearest first.
+     */
+    public List<Person> findNearestPersons(Person anchor, Role role, int count) {
+        return persons.findNearest(anchor, role, count);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
 
 /**
  * The API of the Model component.
@@ -53,6 +56,13 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the mutation version of the address book.
+     * The version increases every time the persons in the address book are added, edited, deleted or replaced,
+     * and stays the same when only the displayed list is filtered or sorted.
+     */
+    long getMutationVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -64,12 +74,25 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all the given persons, notifying observers of the person list only once.
+     * Every person must exist in the address book; if one does not, no person is deleted.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons, notifying observers of the person list only once.
+     * No person may already exist in the address book or appear twice in {@code persons}; if one does, no person is
+     * added.
+     */
+    void addPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -77,6 +100,21 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns up to {@code count} persons with {@code role} whose regions are closest to the region of
+     * {@code anchor}, nearest first. Persons in regions at the same distance are ordered by region name.
+     * Only the regions closest to the region of {@code anchor} are searched.
+     */
+    List<Person> getClosestPersons(Person anchor, Role role, int count);
+
+    /**
+     * Returns up to {@code count} persons with {@code role} nearest to the coordinates of {@code anchor} by haversine
+     * distance, nearest first. Persons without coordinates follow, ordered by the distance of their regions as in
+     * {@link #getClosestPersons(Person, Role, int)}. If {@code anchor} has no coordinates, all persons are ordered by
+     * the distance of their regions.
+     */
+    List<Person> getNearestPersons(Person anchor, Role role, int count);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +15,10 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexablePredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PrecomputableOrder;
+import seedu.address.model.person.Role;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,6 +30,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private long mutationVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -84,6 +90,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        mutationVersion++;
     }
 
     @Override
@@ -91,6 +98,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getMutationVersion() {
+        return mutationVersion;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -100,11 +112,27 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        mutationVersion++;
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+        mutationVersion++;
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        mutationVersion++;
+    }
+
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        mutationVersion++;
     }
 
     @Override
@@ -112,6 +140,19 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        mutationVersion++;
+    }
+
+    @Override
+    public List<Person> getClosestPersons(Person anchor, Role role, int count) {
+        requireAllNonNull(anchor, role);
+        return addressBook.findClosestPersons(anchor.getRegion().value, role, count);
+    }
+
+    @Override
+    public List<Person> getNearestPersons(Person anchor, Role role, int count) {
+        requireAllNonNull(anchor, role);
+        return addressBook.findNearestPersons(anchor, role, count);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -125,9 +166,16 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * Filters the list with {@code predicate}. A predicate that can look persons up in the search index of the
+     * address book does so, so that finding persons by keywords does not split the attributes of every person.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof IndexablePredicate) {
+            predicate = ((IndexablePredicate) predicate).withIndex(addressBook.getSearchIndex());
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -154,9 +202,17 @@ public class ModelManager implements Model {
     }
 
     //=========== Sorted Person List Accessors =============================================================
+    /**
+     * Sorts the list with {@code comparator}. A {@code PrecomputableOrder} is first turned into an order computed
+     * in advance for the persons that pass the current filter, so that sorting does not compare the attributes of
+     * persons. Persons shown later by another filter are compared by the order itself.
+     */
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        if (comparator instanceof PrecomputableOrder) {
+            comparator = ((PrecomputableOrder) comparator).withPrecomputedOrder(filteredPersons);
+        }
         sortedPersons.setComparator(comparator);
 
     }
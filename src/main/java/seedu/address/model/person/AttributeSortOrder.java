@@ -0,0 +1,144 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.NaturalOrderComparator.NATURAL_ORDER_COMPARATOR;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.logic.NaturalOrderComparator;
+
+/**
+ * Orders persons by the natural order of one attribute after another, as given by {@link NaturalOrderComparator}.
+ * Comparing two persons directly goes through their attributes every time, so a list of persons that is sorted as a
+ * whole should be ordered by {@link #withPrecomputedOrder(List)} instead.
+ */
+public class AttributeSortOrder implements PrecomputableOrder {
+
+    /** The number of persons above which their collation keys are sorted in parallel. */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private final List<Function<Person, String>> attributeGetters;
+
+    /**
+     * Creates an order that compares persons by each of {@code attributeGetters} in turn.
+     * There must be at least one attribute.
+     */
+    public AttributeSortOrder(List<? extends Function<Person, String>> attributeGetters) {
+        requireAllNonNull(attributeGetters);
+        checkArgument(!attributeGetters.isEmpty(), "There must be an attribute to sort by.");
+        this.attributeGetters = List.copyOf(attributeGetters);
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        for (Function<Person, String> attributeGetter : attributeGetters) {
+            int cmp = NATURAL_ORDER_COMPARATOR.compare(attributeGetter.apply(first), attributeGetter.apply(second));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a comparator that orders persons the same way as this one, but looks the persons in {@code persons} up
+     * in an order computed in advance.
+     * The collation key of every attribute of every person in {@code persons} is computed once, and the keys are
+     * sorted, in parallel if there are more than {@link #PARALLEL_SORT_THRESHOLD} persons. Comparing two of these
+     * persons then only compares their positions in that order. Any other person is compared by its attributes.
+     */
+    @Override
+    public Comparator<Person> withPrecomputedOrder(List<Person> persons) {
+        requireNonNull(persons);
+        SortKey[] sortKeys = new SortKey[persons.size()];
+        for (int i = 0; i < sortKeys.length; i++) {
+            sortKeys[i] = new SortKey(persons.get(i));
+        }
+        if (sortKeys.length > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sortKeys);
+        } else {
+            Arrays.sort(sortKeys);
+        }
+
+        // persons with equal keys share a rank, so that the ranks agree with compare(Person, Person)
+        Map<Person, Integer> ranks = new IdentityHashMap<>(sortKeys.length);
+        int rank = 0;
+        for (int i = 0; i < sortKeys.length; i++) {
+            if (i > 0 && sortKeys[i].compareTo(sortKeys[i - 1]) != 0) {
+                rank++;
+            }
+            ranks.put(sortKeys[i].person, rank);
+        }
+
+        return (first, second) -> {
+            Integer firstRank = ranks.get(first);
+            Integer secondRank = ranks.get(second);
+            if (firstRank == null || secondRank == null) {
+                return compare(first, second);
+            }
+            return Integer.compare(firstRank, secondRank);
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttributeSortOrder)) {
+            return false;
+        }
+
+        AttributeSortOrder otherAttributeSortOrder = (AttributeSortOrder) other;
+        return attributeGetters.equals(otherAttributeSortOrder.attributeGetters);
+    }
+
+    @Override
+    public int hashCode() {
+        return attributeGetters.hashCode();
+    }
+
+    /**
+     * The collation keys of the sort attributes of a person, together with the lengths of the attributes that break
+     * ties between equal keys.
+     */
+    private class SortKey implements Comparable<SortKey> {
+        private final Person person;
+        private final String[] keys;
+        private final int[] lengths;
+
+        SortKey(Person person) {
+            this.person = person;
+            this.keys = new String[attributeGetters.size()];
+            this.lengths = new int[attributeGetters.size()];
+            for (int i = 0; i < keys.length; i++) {
+                String attribute = attributeGetters.get(i).apply(person);
+                keys[i] = NaturalOrderComparator.toCollationKey(attribute);
+                lengths[i] = attribute.length();
+            }
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            for (int i = 0; i < keys.length; i++) {
+                int cmp = keys[i].compareTo(other.keys[i]);
+                if (cmp == 0) {
+                    cmp = Integer.compare(lengths[i], other.lengths[i]);
+                }
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -4,12 +4,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code Person} matches all the given predicates.
  * Mainly a wrapper to ensure proper predicate equality checking.
  */
-public class ChainedPredicate implements Predicate<Person> {
+public class ChainedPredicate implements IndexablePredicate {
     private Set<Predicate<Person>> predicates;
 
     public ChainedPredicate(List<Predicate<Person>> predicates) {
@@ -26,6 +27,19 @@ public class ChainedPredicate implements Predicate<Person> {
         return predicates.stream().allMatch(predicate -> predicate.test(person));
     }
 
+    /**
+     * Returns a predicate that accepts the same persons as this one, with every predicate that can use
+     * {@code index} replaced by one that does.
+     */
+    @Override
+    public Predicate<Person> withIndex(PersonSearchIndex index) {
+        return new ChainedPredicate(predicates.stream()
+                .map(predicate -> predicate instanceof IndexablePredicate
+                        ? ((IndexablePredicate) predicate).withIndex(index)
+                        : predicate)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the latitude and longitude of where a Person lives, in degrees.
+ * Guarantees: immutable; is valid as declared in {@link #isValidCoordinates(double, double)}
+ */
+public class Coordinates {
+
+    public static final String MESSAGE_CONSTRAINTS = "Coordinates should be a latitude from -90 to 90 and a "
+            + "longitude from -180 to 180 in degrees, separated by a comma, e.g. 1.3521,103.8198";
+
+    /** The mean radius of the Earth, in kilometres. */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public final double latitude;
+    public final double longitude;
+
+    /**
+     * Constructs a {@code Coordinates}.
+     *
+     * @param latitude A valid latitude in degrees.
+     * @param longitude A valid longitude in degrees.
+     */
+    public Coordinates(double latitude, double longitude) {
+        checkArgument(isValidCoordinates(latitude, longitude), MESSAGE_CONSTRAINTS);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /**
+     * Constructs a {@code Coordinates} from a latitude and a longitude separated by a comma.
+     *
+     * @param coordinates Valid coordinates, as declared in {@link #isValidCoordinates(String)}.
+     */
+    public Coordinates(String coordinates) {
+        requireNonNull(coordinates);
+        checkArgument(isValidCoordinates(coordinates), MESSAGE_CONSTRAINTS);
+        String[] parts = coordinates.split(",");
+        this.latitude = Double.parseDouble(parts[0].trim());
+        this.longitude = Double.parseDouble(parts[1].trim());
+    }
+
+    /**
+     * Returns true if the given latitude and longitude are valid.
+     */
+    public static boolean isValidCoordinates(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * Returns true if a given string is a valid latitude and longitude separated by a comma.
+     */
+    public static boolean isValidCoordinates(String test) {
+        String[] parts = test.split(",", -1);
+        if (parts.length != 2) {
+            return false;
+        }
+        try {
+            return isValidCoordinates(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the great-circle distance in kilometres from these coordinates to {@code other}, by the haversine
+     * formula.
+     */
+    public double distanceTo(Coordinates other) {
+        double latitudeDelta = Math.toRadians(other.latitude - latitude);
+        double longitudeDelta = Math.toRadians(other.longitude - longitude);
+        double haversine = Math.pow(Math.sin(latitudeDelta / 2), 2) + Math.cos(Math.toRadians(latitude))
+                * Math.cos(Math.toRadians(other.latitude)) * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    /**
+     * Returns the point on the unit sphere at these coordinates, as {x, y, z}.
+     * The straight-line distance between two such points grows with the great-circle distance between them, so
+     * comparing straight-line distances orders points the same way as comparing haversine distances.
+     */
+    double[] toUnitVector() {
+        double latitudeRadians = Math.toRadians(latitude);
+        double longitudeRadians = Math.toRadians(longitude);
+        return new double[] {Math.cos(latitudeRadians) * Math.cos(longitudeRadians),
+            Math.cos(latitudeRadians) * Math.sin(longitudeRadians), Math.sin(latitudeRadians)};
+    }
+
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Coordinates)) {
+            return false;
+        }
+
+        Coordinates otherCoordinates = (Coordinates) other;
+        return Double.compare(latitude, otherCoordinates.latitude) == 0
+                && Double.compare(longitude, otherCoordinates.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(latitude) * 31 + Double.hashCode(longitude);
+    }
+
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * How well the volunteers cover the beneficiaries: for every region, the number of volunteers and beneficiaries in it
+ * and its gap, the shortest travel time in minutes from it to a region with a volunteer.
+ * Beneficiaries are ranked by the gap of their region, largest first, so the beneficiaries furthest from any
+ * volunteer come first.
+ */
+public class CoverageReport {
+
+    /** The gap of a region from which no region with a volunteer can be reached. */
+    public static final int NO_VOLUNTEER = Integer.MAX_VALUE;
+
+    private static final ValidRegion[] REGIONS = ValidRegion.values();
+
+    private final int[] volunteerCounts;
+    private final int[] beneficiaryCounts;
+    private final int[] gaps;
+    private final List<ValidRegion> regionsByGap;
+    private final List<Person> rankedBeneficiaries;
+
+    private CoverageReport(int[] volunteerCounts, int[] beneficiaryCounts, int[] gaps,
+            List<ValidRegion> regionsByGap, List<Person> rankedBeneficiaries) {
+        this.volunteerCounts = volunteerCounts;
+        this.beneficiaryCounts = beneficiaryCounts;
+        this.gaps = gaps;
+        this.regionsByGap = regionsByGap;
+        this.rankedBeneficiaries = rankedBeneficiaries;
+    }
+
+    /**
+     * Reports how well the volunteers among {@code persons} cover the beneficiaries among them.
+     * The persons are counted and the beneficiaries grouped by region in one pass. The gaps of all regions then come
+     * from a single search over the region graph that starts from every region with a volunteer at once, instead of
+     * one search per beneficiary. Ranking the beneficiaries only sorts the regions, and the beneficiaries of a region
+     * keep the order they were given in.
+     */
+    public static CoverageReport of(List<Person> persons) {
+        requireNonNull(persons);
+        int[] volunteerCounts = new int[REGIONS.length];
+        int[] beneficiaryCounts = new int[REGIONS.length];
+        List<List<Person>> beneficiariesByRegion = new ArrayList<>();
+        for (int i = 0; i < REGIONS.length; i++) {
+            beneficiariesByRegion.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            int region = person.getRegion().value.ordinal();
+            if (person.getRole() == Role.VOLUNTEER) {
+                volunteerCounts[region]++;
+            } else {
+                beneficiaryCounts[region]++;
+                beneficiariesByRegion.get(region).add(person);
+            }
+        }
+
+        List<ValidRegion> volunteerRegions = new ArrayList<>();
+        for (ValidRegion region : REGIONS) {
+            if (volunteerCounts[region.ordinal()] > 0) {
+                volunteerRegions.add(region);
+            }
+        }
+        int[] gaps = ValidRegion.getDistancesFromNearest(volunteerRegions);
+
+        ValidRegion[] regionsByGap = REGIONS.clone();
+        Arrays.sort(regionsByGap, Comparator.<ValidRegion>comparingInt(region -> gaps[region.ordinal()]).reversed()
+                .thenComparing(ValidRegion::getDisplayName));
+        List<Person> rankedBeneficiaries = new ArrayList<>();
+        for (ValidRegion region : regionsByGap) {
+            rankedBeneficiaries.addAll(beneficiariesByRegion.get(region.ordinal()));
+        }
+        return new CoverageReport(volunteerCounts, beneficiaryCounts, gaps,
+                Collections.unmodifiableList(Arrays.asList(regionsByGap)),
+                Collections.unmodifiableList(rankedBeneficiaries));
+    }
+
+    /**
+     * Returns the number of volunteers in {@code region}.
+     */
+    public int getVolunteerCount(ValidRegion region) {
+        return volunteerCounts[region.ordinal()];
+    }
+
+    /**
+     * Returns the number of beneficiaries in {@code region}.
+     */
+    public int getBeneficiaryCount(ValidRegion region) {
+        return beneficiaryCounts[region.ordinal()];
+    }
+
+    /**
+     * Returns the shortest travel time in minutes from {@code region} to a region with a volunteer, which is 0 if
+     * {@code region} has a volunteer, or {@link #NO_VOLUNTEER} if no region with a volunteer can be reached.
+     */
+    public int getGap(ValidRegion region) {
+        return gaps[region.ordinal()];
+    }
+
+    /**
+     * Returns the gap of {@code beneficiary}, which is the gap of their region.
+     */
+    public int getGap(Person beneficiary) {
+        return getGap(beneficiary.getRegion().value);
+    }
+
+    /**
+     * Returns every region ordered by its gap, largest first, then by display name.
+     */
+    public List<ValidRegion> getRegionsByGap() {
+        return regionsByGap;
+    }
+
+    /**
+     * Returns the beneficiaries ordered by their gap, largest first, then by the display name of their region, then
+     * in the order they were given.
+     */
+    public List<Person> getRankedBeneficiaries() {
+        return rankedBeneficiaries;
+    }
+
+    /**
+     * Returns the number of beneficiaries whose gap is greater than 0, who have no volunteer in their region.
+     */
+    public int getUncoveredCount() {
+        int count = 0;
+        for (ValidRegion region : REGIONS) {
+            if (gaps[region.ordinal()] > 0) {
+                count += beneficiaryCounts[region.ordinal()];
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons that can look up the persons it accepts in a {@link PersonSearchIndex} instead of examining
+ * the attributes of every person it tests.
+ */
+public interface IndexablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns a predicate that accepts the same persons as this one, using {@code index} where it can.
+     * Every person tested by the returned predicate must be in {@code index}.
+     */
+    Predicate<Person> withIndex(PersonSearchIndex index);
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the persons with coordinates by role, used to find the persons of a role nearest to some coordinates
+ * without going through every person.
+ * The persons of each role are kept in a {@link PersonKdTree}. Persons without coordinates are not indexed.
+ */
+public class LocationIndex {
+
+    private final Map<Role, PersonKdTree> treesByRole = new EnumMap<>(Role.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public LocationIndex() {
+        for (Role role : Role.values()) {
+            treesByRole.put(role, new PersonKdTree());
+        }
+    }
+
+    /**
+     * Indexes {@code person} under its role, if it has coordinates.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (person.getCoordinates().isPresent()) {
+            treesByRole.get(person.getRole()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from this index.
+     * {@code person} must have the same role as when it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        treesByRole.get(person.getRole()).remove(person);
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons} that have coordinates.
+     * The tree of each role is built once from all its persons, instead of inserting them one by one.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        Map<Role, List<Person>> personsByRole = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            personsByRole.put(role, new ArrayList<>());
+        }
+        for (Person person : persons) {
+            if (person.getCoordinates().isPresent()) {
+                personsByRole.get(person.getRole()).add(person);
+            }
+        }
+        clear();
+        personsByRole.forEach((role, rolePersons) -> treesByRole.get(role).addAll(rolePersons));
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    public void clear() {
+        treesByRole.values().forEach(PersonKdTree::clear);
+    }
+
+    /**
+     * Returns the number of persons with {@code role} that have coordinates.
+     */
+    public int count(Role role) {
+        requireNonNull(role);
+        return treesByRole.get(role).size();
+    }
+
+    /**
+     * Returns up to {@code count} persons with {@code role} nearest to {@code origin}, ordered by their haversine
+     * distance from {@code origin}, then by ID.
+     */
+    public List<Person> findNearest(Coordinates origin, Role role, int count) {
+        requireAllNonNull(origin, role);
+        return treesByRole.get(role).findNearest(origin, count);
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A flow network that sends as much flow as possible from a source to a sink at the smallest total cost, by
+ * augmenting along successive shortest paths.
+ * Edge costs must not be negative, so every shortest path is found by Dijkstra's algorithm over costs that are
+ * reduced by node potentials. The network is expected to have few nodes and many edges between them, so the nearest
+ * node is found by scanning all nodes instead of with a priority queue.
+ */
+class MinCostFlow {
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final int nodeCount;
+    private final List<List<Integer>> edgeIdsByNode = new ArrayList<>();
+    private final List<Edge> edges = new ArrayList<>();
+
+    /**
+     * Creates a network of {@code nodeCount} nodes without edges.
+     */
+    MinCostFlow(int nodeCount) {
+        checkArgument(nodeCount > 0, "There must be at least one node.");
+        this.nodeCount = nodeCount;
+        for (int i = 0; i < nodeCount; i++) {
+            edgeIdsByNode.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds an edge from {@code from} to {@code to} that carries at most {@code capacity} units of flow at
+     * {@code cost} per unit, and returns its ID.
+     */
+    int addEdge(int from, int to, long capacity, long cost) {
+        checkArgument(capacity >= 0 && cost >= 0, "Edge capacities and costs must not be negative.");
+        int id = edges.size();
+        edges.add(new Edge(to, capacity, cost));
+        edgeIdsByNode.get(from).add(id);
+        // the residual edge that cancels flow sent along the edge
+        edges.add(new Edge(from, 0, -cost));
+        edgeIdsByNode.get(to).add(id + 1);
+        return id;
+    }
+
+    /**
+     * Returns the flow sent along the edge with ID {@code edgeId}.
+     */
+    long getFlow(int edgeId) {
+        return edges.get(edgeId ^ 1).capacity;
+    }
+
+    /**
+     * Sends as much flow as possible from {@code source} to {@code sink} at the smallest total cost, and returns the
+     * amount of flow sent.
+     */
+    long solve(int source, int sink) {
+        long[] potentials = new long[nodeCount];
+        long[] distances = new long[nodeCount];
+        int[] previousEdgeIds = new int[nodeCount];
+        boolean[] isSettled = new boolean[nodeCount];
+        long totalFlow = 0;
+
+        while (true) {
+            Arrays.fill(distances, UNREACHABLE);
+            Arrays.fill(isSettled, false);
+            distances[source] = 0;
+            for (int settledCount = 0; settledCount < nodeCount; settledCount++) {
+                int nearest = -1;
+                for (int node = 0; node < nodeCount; node++) {
+                    if (!isSettled[node] && distances[node] != UNREACHABLE
+                            && (nearest == -1 || distances[node] < distances[nearest])) {
+                        nearest = node;
+                    }
+                }
+                if (nearest == -1) {
+                    break;
+                }
+                isSettled[nearest] = true;
+                for (int edgeId : edgeIdsByNode.get(nearest)) {
+                    Edge edge = edges.get(edgeId);
+                    long distance = distances[nearest] + edge.cost + potentials[nearest] - potentials[edge.to];
+                    if (edge.capacity > 0 && distance < distances[edge.to]) {
+                        distances[edge.to] = distance;
+                        previousEdgeIds[edge.to] = edgeId;
+                    }
+                }
+            }
+            if (distances[sink] == UNREACHABLE) {
+                return totalFlow;
+            }
+
+            for (int node = 0; node < nodeCount; node++) {
+                if (distances[node] != UNREACHABLE) {
+                    potentials[node] += distances[node];
+                }
+            }
+
+            long pathFlow = Long.MAX_VALUE;
+            for (int node = sink; node != source; node = edges.get(previousEdgeIds[node] ^ 1).to) {
+                pathFlow = Math.min(pathFlow, edges.get(previousEdgeIds[node]).capacity);
+            }
+            for (int node = sink; node != source; node = edges.get(previousEdgeIds[node] ^ 1).to) {
+                edges.get(previousEdgeIds[node]).capacity -= pathFlow;
+                edges.get(previousEdgeIds[node] ^ 1).capacity += pathFlow;
+            }
+            totalFlow += pathFlow;
+        }
+    }
+
+    /**
+     * An edge of the residual network, with the capacity that is left on it.
+     */
+    private static class Edge {
+        private final int to;
+        private final long cost;
+        private long capacity;
+
+        Edge(int to, long capacity, long cost) {
+            this.to = to;
+            this.capacity = capacity;
+            this.cost = cost;
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.commons.util.StringUtil.normalizeInnerSpaces;
 import static seedu.address.commons.util.StringUtil.removeAllWhitespace;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -19,18 +21,28 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
-    public static final Function<Person, String> NAME_STR_GETTER = person -> person.getName().fullName;
-    public static final Function<Person, String> PHONE_UNSPACED_STR_GETTER =
-            person -> removeAllWhitespace(person.getPhone().value);
-    public static final Function<Person, String> EMAIL_STR_GETTER = person -> person.getEmail().value;
-    public static final Function<Person, String> ADDRESS_STR_GETTER = person -> person.getAddress().value;
-    public static final Function<Person, String> TAG_STR_GETTER =
-            person -> person.getTags().stream().map(t -> t.tagName).collect(Collectors.joining(" "));
-    public static final Function<Person, String> ROLE_TAG_STR_GETTER =
-            person -> TAG_STR_GETTER.apply(person).contains("beneficiary") ? "beneficiary" : "volunteer";
-
-    public static final Function<Person, String> REGION_STR_GETTER =
-            person -> person.getRegion().value.getDisplayName();
+    /** The ID of a person that has not been placed in a {@link UniquePersonList} yet. */
+    public static final long NO_ID = 0;
+    public static final String MESSAGE_INVALID_ID = "Person IDs should be positive numbers.";
+
+    public static final SearchableAttribute NAME_STR_GETTER =
+            new SearchableAttribute(person -> person.name.fullName, person -> person.nameWords);
+    public static final SearchableAttribute PHONE_UNSPACED_STR_GETTER =
+            new SearchableAttribute(person -> person.unspacedPhone, person -> person.phoneWords);
+    public static final SearchableAttribute EMAIL_STR_GETTER =
+            new SearchableAttribute(person -> person.email.value, person -> person.emailWords);
+    public static final SearchableAttribute ADDRESS_STR_GETTER =
+            new SearchableAttribute(person -> person.address.value, person -> person.addressWords);
+    public static final SearchableAttribute TAG_STR_GETTER =
+            new SearchableAttribute(person -> person.tagText, person -> person.tagWords);
+    public static final SearchableAttribute ROLE_TAG_STR_GETTER =
+            new SearchableAttribute(person -> person.role.getTagName(), person -> person.roleWords);
+
+    public static final SearchableAttribute REGION_STR_GETTER =
+            new SearchableAttribute(person -> person.regionName, person -> person.regionWords);
+    // Surrogate key, not part of equality
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -40,17 +52,114 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
     private final Region region;
+    private final Coordinates coordinates;
+
+    // Derived fields, computed once so that finding and sorting persons does not recompute them
+    private final String identityKey;
+    private final String unspacedPhone;
+    private final String tagText;
+    private final Role role;
+    private final String regionName;
+    private final String[] nameWords;
+    private final String[] phoneWords;
+    private final String[] emailWords;
+    private final String[] addressWords;
+    private final String[] tagWords;
+    private final String[] roleWords;
+    private final String[] regionWords;
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Region region, Set<Tag> tags) {
+        this(NO_ID, name, phone, email, address, region, tags);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, which is either {@link #NO_ID} or a positive number.
+     * Every other field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Region region, Set<Tag> tags) {
+        this(id, name, phone, email, address, region, tags, null);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, which is either {@link #NO_ID} or a positive number, and the given
+     * {@code coordinates}, which are null if it is not known where the person lives.
+     * Every other field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Region region, Set<Tag> tags,
+            Coordinates coordinates) {
         requireAllNonNull(name, phone, email, address, region, tags);
+        checkArgument(id >= NO_ID, MESSAGE_INVALID_ID);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.region = region;
+        this.coordinates = coordinates;
         this.tags.addAll(tags);
+        this.identityKey = toIdentityKey(name.fullName, phone.value);
+        this.unspacedPhone = removeAllWhitespace(phone.value);
+        this.tagText = this.tags.stream().map(t -> t.tagName).collect(Collectors.joining(" "));
+        this.role = Role.of(this.tags);
+        this.regionName = region.value.getDisplayName();
+        this.nameWords = toWords(name.fullName);
+        this.phoneWords = toWords(unspacedPhone);
+        this.emailWords = toWords(email.value);
+        this.addressWords = toWords(address.value);
+        this.tagWords = toWords(tagText);
+        this.roleWords = toWords(role.getTagName());
+        this.regionWords = toWords(regionName);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, address, region, this.tags, coordinates);
+    }
+
+    private static String[] toWords(String text) {
+        return Arrays.stream(text.toLowerCase().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns the surrogate ID of this person, or {@link #NO_ID} if none has been assigned.
+     * The ID stays the same when the person is edited and is kept across saves, so it can be used to find the person
+     * without comparing every field.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id}.
+     */
+    public Person withId(long id) {
+        if (id == this.id) {
+            return this;
+        }
+        return new Person(id, name, phone, email, address, region, tags, coordinates);
+    }
+
+    /**
+     * Returns the identity key of a person with the given name and phone.
+     * Two persons have the same identity key exactly when {@link #isSamePerson(Person)} holds for them.
+     */
+    public static String toIdentityKey(String name, String phone) {
+        // the phone cannot contain a space once whitespace is removed, so the first space ends it
+        return removeAllWhitespace(phone) + " " + normalizeInnerSpaces(name.toLowerCase());
+    }
+
+    /**
+     * Returns the identity key of this person, see {@link #toIdentityKey(String, String)}.
+     */
+    public String getIdentityKey() {
+        return identityKey;
     }
 
     public Name getName() {
@@ -72,6 +181,17 @@ public class Person {
     public Region getRegion() {
         return region;
     }
+
+    /**
+     * Returns where this person lives, if it is known.
+     */
+    public Optional<Coordinates> getCoordinates() {
+        return Optional.ofNullable(coordinates);
+    }
+
+    public Role getRole() {
+        return role;
+    }
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -90,14 +210,12 @@ public class Person {
         }
 
         return otherPerson != null
-                && removeAllWhitespace(otherPerson.getPhone().value).equals(removeAllWhitespace(getPhone().value))
-                && normalizeInnerSpaces(otherPerson.getName().fullName.toLowerCase())
-                .equals(normalizeInnerSpaces(getName().fullName.toLowerCase()));
+                && otherPerson.identityKey.equals(identityKey);
     }
 
     /**
      * Returns true if both persons have the same identity and data fields.
-     * This defines a stronger notion of equality between two persons.
+     * This defines a stronger notion of equality between two persons. The ID is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -116,13 +234,13 @@ public class Person {
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
                 && region.equals(otherPerson.region)
-                && tags.equals(otherPerson.tags);
+                && tags.equals(otherPerson.tags)
+                && Objects.equals(coordinates, otherPerson.coordinates);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, region, tags);
+        return hashCode;
     }
 
     @Override
@@ -134,6 +252,7 @@ public class Person {
                 .add("address", address)
                 .add("region", region)
                 .add("tags", tags)
+                .add("coordinates", coordinates)
                 .toString();
     }
 
@@ -0,0 +1,366 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * A k-d tree of located persons, used to find the persons nearest to some coordinates without going through every
+ * person.
+ * <p>
+ * Every person is stored as the point on the unit sphere at their coordinates (see
+ * {@link Coordinates#toUnitVector()}), so the straight-line distances the tree prunes by order persons the same way
+ * as haversine distances. All persons at the same coordinates share one node, so persons placed at the centre of the
+ * same postal sector do not make the tree deeper. Nodes are inserted below the leaf they fall into and removed by
+ * marking them once they hold no persons. When an insertion makes the tree too deep, the subtree that is out of
+ * balance is rebuilt around medians, and the whole tree is rebuilt when removed nodes outnumber the rest, which keeps
+ * its depth logarithmic in the number of distinct coordinates.
+ */
+class PersonKdTree {
+
+    private static final int DIMENSIONS = 3;
+    // trees up to this depth are never rebuilt for being too deep
+    private static final int MIN_REBUILD_DEPTH = 8;
+
+    private final Map<Long, Node> nodesById = new HashMap<>();
+    private final Map<Coordinates, Node> nodesByCoordinates = new HashMap<>();
+    private Node root;
+    private int removedCount;
+
+    /**
+     * Adds {@code person}, who must have coordinates, replacing any person with the same ID.
+     */
+    void add(Person person) {
+        Node node = place(person);
+        if (node == null) {
+            return;
+        }
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        List<Node> path = new ArrayList<>();
+        Node parent = root;
+        while (true) {
+            path.add(parent);
+            parent.size++;
+            boolean isLeft = node.point[parent.axis] < parent.point[parent.axis];
+            Node child = isLeft ? parent.left : parent.right;
+            if (child == null) {
+                node.axis = (parent.axis + 1) % DIMENSIONS;
+                if (isLeft) {
+                    parent.left = node;
+                } else {
+                    parent.right = node;
+                }
+                break;
+            }
+            parent = child;
+        }
+        if (path.size() > Math.max(MIN_REBUILD_DEPTH, 2 * log2(nodesByCoordinates.size()))) {
+            rebuildAbove(path, node);
+        }
+    }
+
+    /**
+     * Adds all of {@code persons}, who must have coordinates, replacing any persons with the same IDs, and then
+     * rebuilds the tree once instead of inserting the persons one by one.
+     */
+    void addAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::place);
+        rebuild();
+    }
+
+    /**
+     * Removes the person with the same ID as {@code person}, if there is one.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Node node = nodesById.remove(person.getId());
+        if (node == null) {
+            return;
+        }
+        node.persons.remove(person.getId());
+        if (!node.persons.isEmpty()) {
+            return;
+        }
+        node.isRemoved = true;
+        nodesByCoordinates.remove(node.coordinates);
+        removedCount++;
+        if (removedCount > nodesByCoordinates.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every person.
+     */
+    void clear() {
+        nodesById.clear();
+        nodesByCoordinates.clear();
+        root = null;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the number of persons in this tree.
+     */
+    int size() {
+        return nodesById.size();
+    }
+
+    /**
+     * Returns up to {@code count} persons nearest to {@code origin}, ordered by their distance from it, then by ID.
+     */
+    List<Person> findNearest(Coordinates origin, int count) {
+        requireNonNull(origin);
+        checkArgument(count > 0, "The number of persons to find must be positive.");
+        Search search = new Search(origin.toUnitVector(), count);
+        search.visit(root);
+
+        List<Candidate> candidates = new ArrayList<>(search.best);
+        candidates.sort(Candidate.NEAREST_FIRST);
+        List<Person> nearest = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> nearest.add(candidate.person));
+        return nearest;
+    }
+
+    /**
+     * Puts {@code person} in the node at their coordinates, replacing any person with the same ID.
+     *
+     * @return the node if it was created for {@code person} and still has to be linked into the tree, or null if
+     *     {@code person} joined the node of other persons at the same coordinates.
+     */
+    private Node place(Person person) {
+        requireNonNull(person);
+        Coordinates coordinates = person.getCoordinates()
+                .orElseThrow(() -> new IllegalArgumentException("Only located persons can be added."));
+        remove(person);
+
+        Node node = nodesByCoordinates.get(coordinates);
+        boolean isNew = node == null;
+        if (isNew) {
+            node = new Node(coordinates);
+            nodesByCoordinates.put(coordinates, node);
+        }
+        node.persons.put(person.getId(), person);
+        nodesById.put(person.getId(), node);
+        return isNew ? node : null;
+    }
+
+    /**
+     * Rebuilds the tree from the nodes that are not removed, splitting every subtree at the median of the
+     * dimension in which its points are most spread out.
+     */
+    private void rebuild() {
+        Node[] nodes = nodesByCoordinates.values().toArray(new Node[0]);
+        root = build(nodes, 0, nodes.length);
+        removedCount = 0;
+    }
+
+    /**
+     * Rebuilds the lowest subtree on {@code path} that is out of balance, so that inserting persons in order does not
+     * rebuild the whole tree every few insertions. A subtree is out of balance when one side of it holds more than two
+     * thirds of its nodes, and the whole tree is rebuilt if no subtree on the path is.
+     *
+     * @param path the nodes from the root down to the parent of {@code inserted}.
+     */
+    private void rebuildAbove(List<Node> path, Node inserted) {
+        Node child = inserted;
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node scapegoat = path.get(i);
+            if (3 * child.size > 2 * scapegoat.size) {
+                Node parent = path.get(i - 1);
+                Node subtree = rebuild(scapegoat);
+                if (parent.left == scapegoat) {
+                    parent.left = subtree;
+                } else {
+                    parent.right = subtree;
+                }
+                for (int j = 0; j < i; j++) {
+                    path.get(j).size -= scapegoat.size - size(subtree);
+                }
+                return;
+            }
+            child = scapegoat;
+        }
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the subtree below {@code subtree} from its nodes that are not removed, and returns its new root.
+     */
+    private Node rebuild(Node subtree) {
+        List<Node> nodes = new ArrayList<>(subtree.size);
+        collect(subtree, nodes);
+        removedCount -= subtree.size - nodes.size();
+        return build(nodes.toArray(new Node[0]), 0, nodes.size());
+    }
+
+    private static void collect(Node node, List<Node> nodes) {
+        if (node == null) {
+            return;
+        }
+        if (!node.isRemoved) {
+            nodes.add(node);
+        }
+        collect(node.left, nodes);
+        collect(node.right, nodes);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node build(Node[] nodes, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int axis = widestAxis(nodes, from, to);
+        Arrays.sort(nodes, from, to, Comparator.comparingDouble(node -> node.point[axis]));
+        // points equal to the median along the axis may be on either side, and searches visit both sides of them
+        int middle = (from + to) >>> 1;
+        Node median = nodes[middle];
+        median.axis = axis;
+        median.left = build(nodes, from, middle);
+        median.right = build(nodes, middle + 1, to);
+        median.size = to - from;
+        return median;
+    }
+
+    private static int widestAxis(Node[] nodes, int from, int to) {
+        int widestAxis = 0;
+        double widestSpread = -1;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, nodes[i].point[axis]);
+                max = Math.max(max, nodes[i].point[axis]);
+            }
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widestAxis = axis;
+            }
+        }
+        return widestAxis;
+    }
+
+    private static int log2(int n) {
+        return 32 - Integer.numberOfLeadingZeros(n);
+    }
+
+    private static double squaredDistance(double[] first, double[] second) {
+        double sum = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            double delta = first[axis] - second[axis];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+
+    /**
+     * The persons at some coordinates, with the dimension the subtree below them is split along.
+     */
+    private static class Node {
+        private final Coordinates coordinates;
+        private final double[] point;
+        // ordered by ID, so a search can stop at the first person of a node that is not kept
+        private final NavigableMap<Long, Person> persons = new TreeMap<>();
+        private int axis;
+        // the number of nodes in the subtree below this node, counting this node and removed ones
+        private int size = 1;
+        private Node left;
+        private Node right;
+        private boolean isRemoved;
+
+        Node(Coordinates coordinates) {
+            this.coordinates = coordinates;
+            this.point = coordinates.toUnitVector();
+        }
+    }
+
+    /**
+     * A person found by a search, with their squared straight-line distance from the origin of the search.
+     */
+    private static class Candidate {
+        private static final Comparator<Candidate> NEAREST_FIRST = Comparator
+                .<Candidate>comparingDouble(candidate -> candidate.squaredDistance)
+                .thenComparingLong(candidate -> candidate.person.getId());
+
+        private final Person person;
+        private final double squaredDistance;
+
+        Candidate(Person person, double squaredDistance) {
+            this.person = person;
+            this.squaredDistance = squaredDistance;
+        }
+    }
+
+    /**
+     * A search for the persons nearest to a point, which keeps the best candidates so far with the worst on top.
+     */
+    private static class Search {
+        private final double[] origin;
+        private final int count;
+        private final PriorityQueue<Candidate> best = new PriorityQueue<>(Candidate.NEAREST_FIRST.reversed());
+
+        Search(double[] origin, int count) {
+            this.origin = origin;
+            this.count = count;
+        }
+
+        void visit(Node node) {
+            if (node == null) {
+                return;
+            }
+            if (!node.isRemoved) {
+                double squaredDistance = squaredDistance(origin, node.point);
+                // the persons of a node can only be kept if the node is no further than the worst candidate kept
+                if (best.size() < count || squaredDistance <= best.peek().squaredDistance) {
+                    for (Person person : node.persons.values()) {
+                        if (!offer(new Candidate(person, squaredDistance))) {
+                            break; // the rest of the node is just as far away and has larger IDs
+                        }
+                    }
+                }
+            }
+
+            double delta = origin[node.axis] - node.point[node.axis];
+            visit(delta < 0 ? node.left : node.right);
+            // the other side can only hold a nearer person if it is closer than the worst candidate kept, which
+            // always holds when the origin is on the splitting plane
+            if (best.size() < count || delta * delta <= best.peek().squaredDistance) {
+                visit(delta < 0 ? node.right : node.left);
+            }
+        }
+
+        /**
+         * Keeps {@code candidate} if it is among the best so far, and returns whether it was kept.
+         */
+        private boolean offer(Candidate candidate) {
+            if (best.size() < count) {
+                best.add(candidate);
+                return true;
+            }
+            if (Candidate.NEAREST_FIRST.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+                return true;
+            }
+            return false;
+        }
+    }
+}
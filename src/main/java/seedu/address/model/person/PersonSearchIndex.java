@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.logic.parser.KeywordMatch;
+
+/**
+ * An inverted index from the lowercased words of the searchable attributes of persons to the IDs of the persons
+ * that have them.
+ * The words of an attribute are the ones {@link SearchableAttribute#wordsOf(Person)} returns, which
+ * {@link StrAttrContainsKeywords#test(Person)} also matches, so a lookup here finds exactly the persons it accepts.
+ * The words of every attribute are kept sorted, so all words starting with a prefix are found without going through
+ * the others.
+ */
+public class PersonSearchIndex {
+
+    /** The attribute getters whose words are indexed. */
+    public static final List<SearchableAttribute> INDEXED_ATTRIBUTES = List.of(
+            Person.NAME_STR_GETTER, Person.PHONE_UNSPACED_STR_GETTER, Person.EMAIL_STR_GETTER,
+            Person.ADDRESS_STR_GETTER, Person.REGION_STR_GETTER, Person.TAG_STR_GETTER);
+
+    private final Map<SearchableAttribute, NavigableMap<String, Set<Long>>> postingsByAttribute = new HashMap<>();
+    private long version;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonSearchIndex() {
+        for (SearchableAttribute attributeGetter : INDEXED_ATTRIBUTES) {
+            postingsByAttribute.put(attributeGetter, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Returns true if the words of the attribute returned by {@code attributeGetter} are indexed.
+     */
+    public static boolean isIndexed(Function<Person, String> attributeGetter) {
+        return INDEXED_ATTRIBUTES.contains(attributeGetter);
+    }
+
+    /**
+     * Returns a number that changes whenever a person is added to or removed from this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indexes the attributes of {@code person} under its ID.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        postingsByAttribute.forEach((attributeGetter, postings) -> {
+            for (String word : attributeGetter.wordsOf(person)) {
+                postings.computeIfAbsent(word, unused -> new HashSet<>()).add(person.getId());
+            }
+        });
+        version++;
+    }
+
+    /**
+     * Removes the attributes of {@code person} from this index.
+     * {@code person} must have the same attributes as when it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        postingsByAttribute.forEach((attributeGetter, postings) -> {
+            for (String word : attributeGetter.wordsOf(person)) {
+                Set<Long> ids = postings.get(word);
+                if (ids != null && ids.remove(person.getId()) && ids.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        });
+        version++;
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    public void clear() {
+        postingsByAttribute.values().forEach(Map::clear);
+        version++;
+    }
+
+    /**
+     * Returns the IDs of the persons whose attribute returned by {@code attributeGetter} matches any of
+     * {@code keywordMatches}, ignoring case.
+     * The attribute must be one of the {@link #INDEXED_ATTRIBUTES}.
+     */
+    public Set<Long> find(Function<Person, String> attributeGetter, Set<KeywordMatch> keywordMatches) {
+        requireAllNonNull(attributeGetter, keywordMatches);
+        NavigableMap<String, Set<Long>> postings = postingsByAttribute.get(attributeGetter);
+        if (postings == null) {
+            throw new IllegalArgumentException("The attribute is not indexed.");
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (KeywordMatch keywordMatch : keywordMatches) {
+            String keyword = keywordMatch.keyword().trim().toLowerCase();
+            if (!keywordMatch.isPrefix()) {
+                ids.addAll(postings.getOrDefault(keyword, Collections.emptySet()));
+                continue;
+            }
+            for (Map.Entry<String, Set<Long>> entry : postings.tailMap(keyword, true).entrySet()) {
+                if (!entry.getKey().startsWith(keyword)) {
+                    break;
+                }
+                ids.addAll(entry.getValue());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * Finds the region and the approximate coordinates of a Singapore postal code without any network service.
+ * The first two digits of a postal code are its sector, and {@link #POSTAL_SECTORS_RESOURCE} maps ranges of sectors
+ * to regions and to the coordinates of their centres. The ranges are loaded once into sorted arrays of primitives, so
+ * a lookup is a binary search.
+ */
+public class PostalCodeGeocoder {
+
+    /** The bundled file of the regions of ranges of postal sectors. */
+    public static final String POSTAL_SECTORS_RESOURCE = "/regions/postal_sectors.csv";
+
+    public static final int POSTAL_CODE_LENGTH = 6;
+
+    private static final SectorRanges SECTOR_RANGES = loadSectorRanges();
+
+    /**
+     * Returns the region of the last six-digit postal code in {@code address}, if there is one and its sector is
+     * known.
+     */
+    public static Optional<ValidRegion> findRegionOfAddress(String address) {
+        requireNonNull(address);
+        return findPostalCode(address).flatMap(PostalCodeGeocoder::findRegionOfPostalCode);
+    }
+
+    /**
+     * Returns the centre of the sector of the last six-digit postal code in {@code address}, if there is one and its
+     * sector is known.
+     */
+    public static Optional<Coordinates> findCoordinatesOfAddress(String address) {
+        requireNonNull(address);
+        return findPostalCode(address).flatMap(PostalCodeGeocoder::findCoordinatesOfPostalCode);
+    }
+
+    /**
+     * Returns the region of the six-digit {@code postalCode}, if its sector is known.
+     */
+    public static Optional<ValidRegion> findRegionOfPostalCode(String postalCode) {
+        int range = SECTOR_RANGES.find(toSector(postalCode));
+        return range < 0 ? Optional.empty() : Optional.of(SECTOR_RANGES.getRegion(range));
+    }
+
+    /**
+     * Returns the centre of the sector of the six-digit {@code postalCode}, if its sector is known.
+     */
+    public static Optional<Coordinates> findCoordinatesOfPostalCode(String postalCode) {
+        int range = SECTOR_RANGES.find(toSector(postalCode));
+        return range < 0 ? Optional.empty() : Optional.of(SECTOR_RANGES.getCoordinates(range));
+    }
+
+    /**
+     * Returns the last run of exactly six digits in {@code address}.
+     */
+    private static Optional<String> findPostalCode(String address) {
+        // the postal code is usually at the end of an address, so the address is searched backwards
+        int end = address.length();
+        while (end > 0) {
+            while (end > 0 && !isAsciiDigit(address.charAt(end - 1))) {
+                end--;
+            }
+            int start = end;
+            while (start > 0 && isAsciiDigit(address.charAt(start - 1))) {
+                start--;
+            }
+            if (end - start == POSTAL_CODE_LENGTH) {
+                return Optional.of(address.substring(start, end));
+            }
+            end = start;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the sector of {@code postalCode}, or -1 if it is not six digits.
+     */
+    private static int toSector(String postalCode) {
+        requireNonNull(postalCode);
+        if (postalCode.length() != POSTAL_CODE_LENGTH
+                || !postalCode.chars().allMatch(PostalCodeGeocoder::isAsciiDigit)) {
+            return -1;
+        }
+        return (postalCode.charAt(0) - '0') * 10 + (postalCode.charAt(1) - '0');
+    }
+
+    private static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Loads the ranges of sectors from {@link #POSTAL_SECTORS_RESOURCE}, in which every line after the header gives
+     * the first and last sector of a range, its region, and the latitude and longitude of its centre.
+     *
+     * @throws IllegalStateException if the file is missing or malformed, or its ranges overlap
+     */
+    private static SectorRanges loadSectorRanges() {
+        List<SectorRange> ranges = new ArrayList<>();
+        try (InputStream in = PostalCodeGeocoder.class.getResourceAsStream(POSTAL_SECTORS_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing postal sectors " + POSTAL_SECTORS_RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            reader.readLine(); // header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = CsvUtil.parseLine(line);
+                ValidRegion region = fields.size() == 5 ? ValidRegion.fromName(fields.get(2).trim()) : null;
+                if (region == null) {
+                    throw new IllegalStateException("Invalid postal sector range: " + line);
+                }
+                ranges.add(new SectorRange(Integer.parseInt(fields.get(0).trim()),
+                        Integer.parseInt(fields.get(1).trim()), region, new Coordinates(
+                        Double.parseDouble(fields.get(3).trim()), Double.parseDouble(fields.get(4).trim()))));
+            }
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            throw new IllegalStateException("Could not read postal sectors " + POSTAL_SECTORS_RESOURCE, e);
+        }
+        return new SectorRanges(ranges);
+    }
+
+    /**
+     * A range of sectors as read from {@link #POSTAL_SECTORS_RESOURCE}.
+     */
+    private static class SectorRange {
+        private final int firstSector;
+        private final int lastSector;
+        private final ValidRegion region;
+        private final Coordinates centre;
+
+        SectorRange(int firstSector, int lastSector, ValidRegion region, Coordinates centre) {
+            this.firstSector = firstSector;
+            this.lastSector = lastSector;
+            this.region = region;
+            this.centre = centre;
+        }
+    }
+
+    /**
+     * Disjoint ranges of sectors with their regions and centres, sorted by their first sector.
+     */
+    private static class SectorRanges {
+        private final int[] firstSectors;
+        private final int[] lastSectors;
+        private final byte[] regionOrdinals;
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        SectorRanges(List<SectorRange> ranges) {
+            ranges.sort((first, second) -> Integer.compare(first.firstSector, second.firstSector));
+            firstSectors = new int[ranges.size()];
+            lastSectors = new int[ranges.size()];
+            regionOrdinals = new byte[ranges.size()];
+            latitudes = new double[ranges.size()];
+            longitudes = new double[ranges.size()];
+            for (int i = 0; i < ranges.size(); i++) {
+                SectorRange range = ranges.get(i);
+                if (range.firstSector > range.lastSector || (i > 0 && range.firstSector <= lastSectors[i - 1])) {
+                    throw new IllegalStateException("Invalid or overlapping postal sector range from "
+                            + range.firstSector);
+                }
+                firstSectors[i] = range.firstSector;
+                lastSectors[i] = range.lastSector;
+                regionOrdinals[i] = (byte) range.region.ordinal();
+                latitudes[i] = range.centre.latitude;
+                longitudes[i] = range.centre.longitude;
+            }
+        }
+
+        /**
+         * Returns the position of the range that contains {@code sector}, or -1 if there is none.
+         */
+        int find(int sector) {
+            int index = Arrays.binarySearch(firstSectors, sector);
+            // otherwise, the range that starts just before the sector is the only one that can contain it
+            if (index < 0) {
+                index = -index - 2;
+            }
+            if (index < 0 || sector > lastSectors[index]) {
+                return -1;
+            }
+            return index;
+        }
+
+        ValidRegion getRegion(int range) {
+            return ValidRegion.values()[regionOrdinals[range]];
+        }
+
+        Coordinates getCoordinates(int range) {
+            return new Coordinates(latitudes[range], longitudes[range]);
+        }
+    }
+}
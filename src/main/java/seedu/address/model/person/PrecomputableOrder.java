@@ -0,0 +1,18 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An order of persons that can be computed in advance for a list of persons, so that sorting the list does not
+ * compare the attributes of its persons.
+ */
+public interface PrecomputableOrder extends Comparator<Person> {
+
+    /**
+     * Returns a comparator that orders persons the same way as this one, but compares the persons in
+     * {@code persons} by their positions in an order computed in advance.
+     * Any other person is compared by this order itself.
+     */
+    Comparator<Person> withPrecomputedOrder(List<Person> persons);
+}
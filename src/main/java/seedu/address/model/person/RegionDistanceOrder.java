@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders persons by how close their region is to the region of an anchor person, which comes first.
+ * Persons in regions at the same distance are ordered by region name, and persons in the same region keep their
+ * order.
+ * <p>
+ * The order of the regions by distance from every region is computed once by {@link ValidRegion}. Comparing two
+ * persons then only compares the positions of their regions in that order, which are looked up in an array.
+ */
+public class RegionDistanceOrder implements Comparator<Person> {
+
+    private final Person anchor;
+    private final int[] regionRanks = new int[ValidRegion.values().length];
+
+    /**
+     * Creates an order of persons by the distance of their regions from the region of {@code anchor}.
+     */
+    public RegionDistanceOrder(Person anchor) {
+        requireNonNull(anchor);
+        this.anchor = anchor;
+
+        List<ValidRegion> regionsByDistance = ValidRegion.getRegionsByDistanceFrom(anchor.getRegion().value);
+        for (int rank = 0; rank < regionsByDistance.size(); rank++) {
+            regionRanks[regionsByDistance.get(rank).ordinal()] = rank;
+        }
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        boolean isFirstAnchor = isAnchor(first);
+        boolean isSecondAnchor = isAnchor(second);
+        if (isFirstAnchor || isSecondAnchor) {
+            return Boolean.compare(isSecondAnchor, isFirstAnchor);
+        }
+        return Integer.compare(rankOf(first), rankOf(second));
+    }
+
+    /**
+     * Returns true if {@code person} is the anchor, which is the same object or has the same ID.
+     */
+    private boolean isAnchor(Person person) {
+        return person == anchor || (anchor.hasId() && person.getId() == anchor.getId());
+    }
+
+    private int rankOf(Person person) {
+        return regionRanks[person.getRegion().value.ordinal()];
+    }
+
+    /**
+     * Returns 0 for the anchor, or 1 more than the position of the region of {@code person} otherwise.
+     */
+    private int bucketOf(Person person) {
+        return isAnchor(person) ? 0 : rankOf(person) + 1;
+    }
+}
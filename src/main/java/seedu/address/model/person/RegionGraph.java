@@ -0,0 +1,304 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * An undirected graph of regions whose edges carry travel times in minutes, loaded from comma-separated values.
+ * Regions are numbered from 0 in the order they are first named.
+ * <p>
+ * The edges are kept in compressed sparse row arrays: the neighbours of region {@code r} are
+ * {@code targets[offsets[r]]} to {@code targets[offsets[r + 1] - 1]}. Distances are not computed up front. The first
+ * distance asked for from a region runs Dijkstra's algorithm from it, and the resulting row of distances is kept in a
+ * cache of a bounded number of rows that evicts the least recently used row, so the memory used does not grow with
+ * the square of the number of regions.
+ */
+public class RegionGraph {
+
+    /** The header of a file of travel times. */
+    public static final List<String> CSV_COLUMNS = List.of("from", "to", "minutes");
+
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d is not \"from,to,minutes\" with two different "
+            + "regions and a positive number of minutes: %2$s";
+    public static final String MESSAGE_DUPLICATE_EDGE = "Line %1$d repeats the travel time between %2$s and %3$s.";
+
+    private final String[] names;
+    private final Map<String, Integer> regionsByName;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    // regionsByNameOrder[i] is the region whose name comes i-th in alphabetical order
+    private final int[] regionsByNameOrder;
+    private final int[] nameRanks;
+    private final Map<Integer, DistanceRow> rowCache;
+
+    private RegionGraph(List<String> names, Map<String, Integer> regionsByName, List<int[]> edges,
+            int rowCacheSize) {
+        this.names = names.toArray(new String[0]);
+        this.regionsByName = regionsByName;
+
+        // both directions of every edge, grouped by their starting region
+        offsets = new int[this.names.length + 1];
+        for (int[] edge : edges) {
+            offsets[edge[0] + 1]++;
+            offsets[edge[1] + 1]++;
+        }
+        for (int region = 0; region < this.names.length; region++) {
+            offsets[region + 1] += offsets[region];
+        }
+        targets = new int[2 * edges.size()];
+        weights = new int[2 * edges.size()];
+        int[] nextSlots = Arrays.copyOf(offsets, this.names.length);
+        for (int[] edge : edges) {
+            targets[nextSlots[edge[0]]] = edge[1];
+            weights[nextSlots[edge[0]]++] = edge[2];
+            targets[nextSlots[edge[1]]] = edge[0];
+            weights[nextSlots[edge[1]]++] = edge[2];
+        }
+
+        regionsByNameOrder = new int[this.names.length];
+        nameRanks = new int[this.names.length];
+        Integer[] sortedRegions = new Integer[this.names.length];
+        Arrays.setAll(sortedRegions, region -> region);
+        Arrays.sort(sortedRegions, (first, second) -> this.names[first].compareTo(this.names[second]));
+        for (int rank = 0; rank < sortedRegions.length; rank++) {
+            regionsByNameOrder[rank] = sortedRegions[rank];
+            nameRanks[sortedRegions[rank]] = rank;
+        }
+
+        rowCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, DistanceRow> eldest) {
+                return size() > rowCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Reads a graph from {@code reader}, whose first line is the header {@link #CSV_COLUMNS} and whose every other
+     * line names two adjacent regions and the travel time in minutes between them.
+     * The regions in {@code knownNames} are numbered first, in their order, and any other region named in the file is
+     * numbered after them. At most {@code rowCacheSize} rows of distances are kept at a time.
+     *
+     * @throws IOException if {@code reader} could not be read.
+     * @throws IllegalValueException if a line is malformed or repeats an edge.
+     */
+    public static RegionGraph fromCsv(BufferedReader reader, List<String> knownNames, int rowCacheSize)
+            throws IOException, IllegalValueException {
+        requireAllNonNull(reader, knownNames);
+        checkArgument(rowCacheSize > 0, "The row cache must hold at least one row.");
+
+        List<String> names = new ArrayList<>(knownNames);
+        Map<String, Integer> regionsByName = new HashMap<>();
+        for (int region = 0; region < names.size(); region++) {
+            regionsByName.put(names.get(region).toLowerCase(), region);
+        }
+
+        List<int[]> edges = new ArrayList<>();
+        Set<Long> edgeKeys = new HashSet<>();
+        reader.readLine(); // header
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = CsvUtil.parseLine(line);
+            int minutes = fields.size() == CSV_COLUMNS.size() ? parseMinutes(fields.get(2).trim()) : 0;
+            if (minutes <= 0 || fields.get(0).trim().equalsIgnoreCase(fields.get(1).trim())
+                    || fields.get(0).isBlank() || fields.get(1).isBlank()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, lineNumber, line));
+            }
+
+            int[] edge = new int[3];
+            for (int i = 0; i < 2; i++) {
+                String name = fields.get(i).trim();
+                edge[i] = regionsByName.computeIfAbsent(name.toLowerCase(), unused -> {
+                    names.add(name);
+                    return names.size() - 1;
+                });
+            }
+            edge[2] = minutes;
+            long edgeKey = ((long) Math.min(edge[0], edge[1]) << 32) | Math.max(edge[0], edge[1]);
+            if (!edgeKeys.add(edgeKey)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_EDGE, lineNumber,
+                        names.get(edge[0]), names.get(edge[1])));
+            }
+            edges.add(edge);
+        }
+        return new RegionGraph(names, regionsByName, edges, rowCacheSize);
+    }
+
+    private static int parseMinutes(String minutes) {
+        try {
+            return Integer.parseInt(minutes);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the number of regions.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the name of {@code region} as it was first given.
+     */
+    public String getName(int region) {
+        return names[region];
+    }
+
+    /**
+     * Returns the region named {@code name}, ignoring case, or -1 if there is none.
+     */
+    public int findRegion(String name) {
+        return name == null ? -1 : regionsByName.getOrDefault(name.toLowerCase(), -1);
+    }
+
+    /**
+     * Returns the regions adjacent to {@code region}.
+     */
+    public int[] getNeighbours(int region) {
+        return Arrays.copyOfRange(targets, offsets[region], offsets[region + 1]);
+    }
+
+    /**
+     * Returns the travel time in minutes between the adjacent regions {@code from} and {@code to}, or -1 if they are
+     * not adjacent.
+     */
+    public int getTravelTime(int from, int to) {
+        for (int i = offsets[from]; i < offsets[from + 1]; i++) {
+            if (targets[i] == to) {
+                return weights[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the shortest travel time in minutes from {@code from} to {@code to}, or {@code Integer.MAX_VALUE} if
+     * there is no path between them.
+     */
+    public int getDistance(int from, int to) {
+        checkRegion(to);
+        return getRow(from).distances[to];
+    }
+
+    /**
+     * Returns all regions ordered by their distance from {@code origin}, then by name.
+     * {@code origin} comes first, and regions that cannot be reached come last.
+     */
+    public int[] getRegionsByDistanceFrom(int origin) {
+        return getRow(origin).regionsByDistance.clone();
+    }
+
+    /**
+     * Returns the shortest travel time in minutes from each region to the nearest of {@code sources}, indexed by
+     * region, or {@code Integer.MAX_VALUE} for regions that cannot reach any of them.
+     * All sources are searched from at once, so this takes one run of Dijkstra's algorithm however many sources there
+     * are. The result is not cached.
+     */
+    public int[] getDistancesFromNearest(int... sources) {
+        for (int source : sources) {
+            checkRegion(source);
+        }
+        return computeDistances(sources);
+    }
+
+    /**
+     * Returns the number of rows of distances that are currently cached.
+     */
+    synchronized int getCachedRowCount() {
+        return rowCache.size();
+    }
+
+    private synchronized DistanceRow getRow(int origin) {
+        checkRegion(origin);
+        return rowCache.computeIfAbsent(origin, this::computeRow);
+    }
+
+    private void checkRegion(int region) {
+        if (region < 0 || region >= names.length) {
+            throw new IndexOutOfBoundsException("No region " + region + " in a graph of " + names.length);
+        }
+    }
+
+    private DistanceRow computeRow(int origin) {
+        int[] distances = computeDistances(origin);
+
+        // unreachable regions have the largest distance, so they sort last
+        long[] sortKeys = new long[names.length];
+        for (int region = 0; region < names.length; region++) {
+            sortKeys[region] = ((long) distances[region] << 32) | nameRanks[region];
+        }
+        Arrays.sort(sortKeys);
+        int[] regionsByDistance = new int[names.length];
+        for (int i = 0; i < sortKeys.length; i++) {
+            regionsByDistance[i] = regionsByNameOrder[(int) sortKeys[i]];
+        }
+        return new DistanceRow(distances, regionsByDistance);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from all of {@code sources} at once, with a binary heap of distances and regions
+     * packed into longs.
+     */
+    private int[] computeDistances(int... sources) {
+        int[] distances = new int[names.length];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        for (int source : sources) {
+            distances[source] = 0;
+            queue.add((long) source);
+        }
+
+        while (!queue.isEmpty()) {
+            long entry = queue.poll();
+            int distance = (int) (entry >>> 32);
+            int region = (int) entry;
+            if (distance > distances[region]) {
+                continue; // a shorter path to the region was already settled
+            }
+            for (int i = offsets[region]; i < offsets[region + 1]; i++) {
+                int newDistance = distance + weights[i];
+                if (newDistance < distances[targets[i]]) {
+                    distances[targets[i]] = newDistance;
+                    queue.add(((long) newDistance << 32) | targets[i]);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * The distances from one region to every region, and the regions in the order of those distances.
+     */
+    private static class DistanceRow {
+        private final int[] distances;
+        private final int[] regionsByDistance;
+
+        DistanceRow(int[] distances, int[] regionsByDistance) {
+            this.distances = distances;
+            this.regionsByDistance = regionsByDistance;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of persons by role and region, used to find the persons of a role that are closest to a region without
+ * going through every person.
+ * The persons of a role in a region are kept in the order of their IDs.
+ */
+public class RegionIndex {
+
+    private final Map<Role, Map<ValidRegion, NavigableMap<Long, Person>>> personsByRole = new EnumMap<>(Role.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public RegionIndex() {
+        for (Role role : Role.values()) {
+            personsByRole.put(role, new EnumMap<>(ValidRegion.class));
+        }
+    }
+
+    /**
+     * Indexes {@code person} under its role and region.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByRole.get(person.getRole())
+                .computeIfAbsent(person.getRegion().value, unused -> new TreeMap<>())
+                .put(person.getId(), person);
+    }
+
+    /**
+     * Removes {@code person} from this index.
+     * {@code person} must have the same role and region as when it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        NavigableMap<Long, Person> persons = personsByRole.get(person.getRole()).get(person.getRegion().value);
+        if (persons != null) {
+            persons.remove(person.getId());
+        }
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    public void clear() {
+        personsByRole.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns up to {@code count} persons with {@code role} whose regions are closest to {@code origin}.
+     * The persons are ordered by the distance of their region from {@code origin}, then by region name, then by ID.
+     * Regions are visited in the order {@link ValidRegion#getRegionsByDistanceFrom(ValidRegion)} computed in
+     * advance, and the search stops as soon as {@code count} persons are found.
+     */
+    public List<Person> findClosest(ValidRegion origin, Role role, int count) {
+        requireAllNonNull(origin, role);
+        checkArgument(count > 0, "The number of persons to find must be positive.");
+
+        Map<ValidRegion, NavigableMap<Long, Person>> personsByRegion = personsByRole.get(role);
+        List<Person> closest = new ArrayList<>(Math.min(count, 64));
+        for (ValidRegion region : ValidRegion.getRegionsByDistanceFrom(origin)) {
+            for (Person person : personsByRegion.getOrDefault(region, Collections.emptyNavigableMap()).values()) {
+                closest.add(person);
+                if (closest.size() == count) {
+                    return closest;
+                }
+            }
+        }
+        return closest;
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The role a person has in the address book, given by one of its tags.
+ */
+public enum Role {
+    VOLUNTEER("volunteer"),
+    BENEFICIARY("beneficiary");
+
+    private final String tagName;
+
+    Role(String tagName) {
+        this.tagName = tagName;
+    }
+
+    /**
+     * Returns the name of the tag that gives a person this role.
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Returns the role given by {@code tags}. A person without the beneficiary tag is a volunteer.
+     */
+    public static Role of(Set<Tag> tags) {
+        return tags.contains(new Tag(BENEFICIARY.tagName)) ? BENEFICIARY : VOLUNTEER;
+    }
+
+    @Override
+    public String toString() {
+        return tagName;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * An attribute of a person in the text form that it is found and sorted by.
+ * Both the text and its lowercased words are computed once when the person is created, so reading them does no work.
+ */
+public final class SearchableAttribute implements Function<Person, String> {
+
+    private final Function<Person, String> textGetter;
+    private final Function<Person, String[]> wordsGetter;
+
+    SearchableAttribute(Function<Person, String> textGetter, Function<Person, String[]> wordsGetter) {
+        this.textGetter = textGetter;
+        this.wordsGetter = wordsGetter;
+    }
+
+    /**
+     * Returns the text of this attribute of {@code person}.
+     */
+    @Override
+    public String apply(Person person) {
+        return textGetter.apply(person);
+    }
+
+    /**
+     * Returns the non-empty words of this attribute of {@code person}, split on whitespace and lowercased.
+     * The returned array must not be modified.
+     */
+    public String[] wordsOf(Person person) {
+        return wordsGetter.apply(person);
+    }
+}
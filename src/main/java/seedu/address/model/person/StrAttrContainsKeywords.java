@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -12,7 +14,7 @@ import seedu.address.logic.parser.KeywordMatch;
  * Tests that a {@code Person}'s specified attribute matches any of the keywords given.
  * Does prefix-matching, meaning to check if any words in the attribute has the keyword as a prefix
  */
-public class StrAttrContainsKeywords implements Predicate<Person> {
+public class StrAttrContainsKeywords implements IndexablePredicate {
     private final Set<KeywordMatch> keywordMatches;
     private final Function<Person, String> attributeGetter;
 
@@ -28,11 +30,27 @@ public class StrAttrContainsKeywords implements Predicate<Person> {
 
     private boolean isMatch(KeywordMatch keywordMatch, Person person) {
         String keyword = keywordMatch.keyword();
+        if (attributeGetter instanceof SearchableAttribute) {
+            return isMatch(keywordMatch, ((SearchableAttribute) attributeGetter).wordsOf(person));
+        }
         return keywordMatch.isPrefix()
                 ? StringUtil.containsWordPrefixIgnoreCase(attributeGetter.apply(person), keyword)
                 : StringUtil.containsWordIgnoreCase(attributeGetter.apply(person), keyword);
     }
 
+    /**
+     * Returns true if any of the lowercased {@code words} of an attribute matches {@code keywordMatch}.
+     */
+    private static boolean isMatch(KeywordMatch keywordMatch, String[] words) {
+        String keyword = keywordMatch.keyword().trim().toLowerCase();
+        for (String word : words) {
+            if (keywordMatch.isPrefix() ? word.startsWith(keyword) : word.equals(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Tests that a {@code Person}'s attribute matches any of the keywords given.
      * @param person the person to be tested
@@ -45,6 +63,20 @@ public class StrAttrContainsKeywords implements Predicate<Person> {
     }
 
 
+    /**
+     * Returns a predicate that looks up the persons matching the keywords in {@code index}, or this predicate if the
+     * attribute is not indexed.
+     * The lookup is repeated only after {@code index} changes, so testing a person takes constant time.
+     */
+    @Override
+    public Predicate<Person> withIndex(PersonSearchIndex index) {
+        requireNonNull(index);
+        if (!PersonSearchIndex.isIndexed(attributeGetter)) {
+            return this;
+        }
+        return new IndexedKeywordsPredicate(index);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -70,4 +102,26 @@ public class StrAttrContainsKeywords implements Predicate<Person> {
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywordMatches).toString();
     }
+
+    /**
+     * Accepts the persons whose IDs the index lists under any of the keywords.
+     */
+    private class IndexedKeywordsPredicate implements Predicate<Person> {
+        private final PersonSearchIndex index;
+        private Set<Long> matchingIds;
+        private long indexVersion;
+
+        IndexedKeywordsPredicate(PersonSearchIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchingIds == null || indexVersion != index.getVersion()) {
+                matchingIds = index.find(attributeGetter, keywordMatches);
+                indexVersion = index.getVersion();
+            }
+            return matchingIds.contains(person.getId());
+        }
+    }
 }
@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +26,18 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are indexed by {@link Person#getIdentityKey()}, so checking for a duplicate takes constant time and
+ * replacing the whole list takes linear time.
+ *
+ * Every person in the list has a unique {@link Person#getId() ID}. A person added without an ID, or with an ID that is
+ * already taken, is stored as a copy with a fresh ID, and an edited person takes over the ID of the person it
+ * replaces. The position of every ID is tracked, so a person taken from this list is found again without a scan.
+ *
+ * The words of the searchable attributes of every person are kept in a {@link PersonSearchIndex}, the persons
+ * of every role and region in a {@link RegionIndex}, and the persons with coordinates of every role in a
+ * {@link LocationIndex}. All are updated before the backing list changes so that listeners of the list already see
+ * the updated indexes.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +47,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    private final Map<Long, Integer> positionById = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final RegionIndex regionIndex = new RegionIndex();
+    private final LocationIndex locationIndex = new LocationIndex();
+    private long nextId = Person.NO_ID + 1;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -45,7 +71,44 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+
+        Person person = withAvailableId(toAdd);
+        identityIndex.put(person.getIdentityKey(), person);
+        positionById.put(person.getId(), internalList.size());
+        searchIndex.add(person);
+        regionIndex.add(person);
+        locationIndex.add(person);
+        internalList.add(person);
+    }
+
+    /**
+     * Adds every person in {@code toAdd} to the end of the list in a single step.
+     * No person may already exist in the list or appear twice in {@code toAdd}; if one does, the list is left
+     * unchanged. Listeners of the list are notified of the addition once.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Person> addedIndex = indexByIdentity(new ArrayList<>(toAdd));
+        if (addedIndex == null) {
+            throw new DuplicatePersonException();
+        }
+        for (String identityKey : addedIndex.keySet()) {
+            if (identityIndex.containsKey(identityKey)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        List<Person> added = new ArrayList<>(toAdd.size());
+        for (Person person : toAdd) {
+            Person withId = withAvailableId(person);
+            identityIndex.put(withId.getIdentityKey(), withId);
+            positionById.put(withId.getId(), internalList.size() + added.size());
+            searchIndex.add(withId);
+            regionIndex.add(withId);
+            locationIndex.add(withId);
+            added.add(withId);
+        }
+        internalList.addAll(added);
     }
 
     /**
@@ -56,7 +119,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +128,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person stored = internalList.get(index);
+        Person person = editedPerson.withId(stored.getId());
+        identityIndex.remove(stored.getIdentityKey());
+        identityIndex.put(person.getIdentityKey(), person);
+        searchIndex.remove(stored);
+        regionIndex.remove(stored);
+        locationIndex.remove(stored);
+        searchIndex.add(person);
+        regionIndex.add(person);
+        locationIndex.add(person);
+        internalList.set(index, person);
     }
 
     /**
@@ -74,13 +147,79 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.get(index);
+        identityIndex.remove(removed.getIdentityKey());
+        positionById.remove(removed.getId());
+        searchIndex.remove(removed);
+        regionIndex.remove(removed);
+        locationIndex.remove(removed);
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Removes every person in {@code toRemove} from the list in a single pass.
+     * Every person must exist in the list; if one does not, the list is left unchanged. Listeners of the list are
+     * notified of the removal once.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet removedPositions = new BitSet(internalList.size());
+        for (Person person : toRemove) {
+            int index = positionOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removedPositions.set(index);
+        }
+        if (removedPositions.isEmpty()) {
+            return;
+        }
+
+        if (removedPositions.cardinality() == 1) {
+            remove(internalList.get(removedPositions.nextSetBit(0)));
+            return;
+        }
+
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        int firstRemoved = removedPositions.nextSetBit(0);
+        int position = firstRemoved;
+        for (int i = firstRemoved; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (removedPositions.get(i)) {
+                identityIndex.remove(person.getIdentityKey());
+                positionById.remove(person.getId());
+                searchIndex.remove(person);
+                regionIndex.remove(person);
+                locationIndex.remove(person);
+                removed.add(person);
+            } else {
+                positionById.put(person.getId(), position++);
+            }
+        }
+        // removing instead of replacing the persons lets sorted and filtered views drop them without re-sorting
+        internalList.removeAll(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionById.clear();
+        positionById.putAll(replacement.positionById);
+        nextId = Math.max(nextId, replacement.nextId);
+        searchIndex.clear();
+        regionIndex.clear();
+        replacement.internalList.forEach(searchIndex::add);
+        replacement.internalList.forEach(regionIndex::add);
+        locationIndex.setPersons(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,11 +229,31 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> replacementIndex = indexByIdentity(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        identityIndex.clear();
+        positionById.clear();
+        searchIndex.clear();
+        regionIndex.clear();
+        for (Person person : persons) {
+            if (person.hasId()) {
+                nextId = Math.max(nextId, person.getId() + 1);
+            }
+        }
+        List<Person> replacementPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person withId = withAvailableId(person);
+            identityIndex.put(withId.getIdentityKey(), withId);
+            positionById.put(withId.getId(), replacementPersons.size());
+            searchIndex.add(withId);
+            regionIndex.add(withId);
+            replacementPersons.add(withId);
+        }
+        locationIndex.setPersons(replacementPersons);
+        internalList.setAll(replacementPersons);
     }
 
     /**
@@ -104,6 +263,51 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the index of the words in the searchable attributes of the persons in this list.
+     * The index must not be modified.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns up to {@code count} persons with {@code role} whose regions are closest to {@code origin}, in the
+     * order described by {@link RegionIndex#findClosest(ValidRegion, Role, int)}.
+     */
+    public List<Person> findClosest(ValidRegion origin, Role role, int count) {
+        return regionIndex.findClosest(origin, role, count);
+    }
+
+    /**
+     * Returns up to {@code count} persons with {@code role} nearest to where {@code anchor} lives.
+     * Persons with coordinates come first, in the order described by
+     * {@link LocationIndex#findNearest(Coordinates, Role, int)}, followed by persons without coordinates in the
+     * order of their regions' distances from the region of {@code anchor}. If {@code anchor} has no coordinates, all
+     * persons are ordered by region as in {@link #findClosest(ValidRegion, Role, int)}.
+     */
+    public List<Person> findNearest(Person anchor, Role role, int count) {
+        requireAllNonNull(anchor, role);
+        if (anchor.getCoordinates().isEmpty()) {
+            return regionIndex.findClosest(anchor.getRegion().value, role, count);
+        }
+
+        List<Person> nearest = new ArrayList<>(locationIndex.findNearest(anchor.getCoordinates().get(), role, count));
+        if (nearest.size() < count) {
+            // every person with coordinates is already found, so the first count persons by region hold enough others
+            int missing = count - nearest.size();
+            for (Person person : regionIndex.findClosest(anchor.getRegion().value, role, count)) {
+                if (person.getCoordinates().isEmpty()) {
+                    nearest.add(person);
+                    if (--missing == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +339,43 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person in this list that is equal to {@code target}, or -1 if there is none.
+     * A person that was taken from this list is found through its ID, otherwise through its identity key.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int positionOf(Person target) {
+        Integer position = positionById.get(target.getId());
+        if (position != null && internalList.get(position).equals(target)) {
+            return position;
+        }
+
+        Person sameIdentity = identityIndex.get(target.getIdentityKey());
+        if (sameIdentity == null || !sameIdentity.equals(target)) {
+            return -1;
+        }
+        return positionById.get(sameIdentity.getId());
+    }
+
+    /**
+     * Returns {@code person} if its ID is not used in this list yet, or a copy of it with a fresh ID otherwise.
+     */
+    private Person withAvailableId(Person person) {
+        if (person.hasId() && !positionById.containsKey(person.getId())) {
+            nextId = Math.max(nextId, person.getId() + 1);
+            return person;
+        }
+        return person.withId(nextId++);
+    }
+
+    /**
+     * Returns {@code persons} indexed by identity key, or null if {@code persons} contains duplicate persons.
+     */
+    private static Map<String, Person> indexByIdentity(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getIdentityKey(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
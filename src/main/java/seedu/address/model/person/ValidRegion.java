@@ -1,19 +1,26 @@
 package seedu.address.model.person;
 
-import java.util.ArrayDeque;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
-import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Enum representing Singapore's valid regions. Each region stores its name,
  * main region and a list of adjacent regions.
+ * The adjacencies and the travel times in minutes between adjacent regions are loaded into a {@link RegionGraph},
+ * and distances between regions are the shortest travel times over the adjacent regions.
  */
 public enum ValidRegion {
     WOODLANDS("Woodlands", "North"),
@@ -62,9 +69,17 @@ public enum ValidRegion {
     WESTERN_WATER_CATCHMENT("Western Water Catchment", "West"),
     TENGAH("Tengah", "West");
 
-    private static final int N = values().length;
-    // Static Distance matrix (computed once)
-    private static final int[][] DIST_MATRIX = new int[N][N];
+    /** The bundled file of the travel times in minutes between adjacent regions. */
+    public static final String TRAVEL_TIMES_RESOURCE = "/regions/travel_times.csv";
+
+    /** The number of rows of distances kept by the region graph, which is enough for every region. */
+    public static final int DISTANCE_ROW_CACHE_SIZE = 64;
+
+    private static final ValidRegion[] VALUES = values();
+    // Static index of the regions by lowercase display name
+    private static final Map<String, ValidRegion> REGIONS_BY_NAME = new HashMap<>();
+    // Static region graph, in which every region is numbered by its ordinal
+    private static final RegionGraph GRAPH = loadGraph();
 
     private final String displayName;
     private final String mainRegion;
@@ -102,6 +117,21 @@ public enum ValidRegion {
         return Collections.unmodifiableList(adjacentRegions);
     }
 
+    /**
+     * Returns the travel time in minutes from this region to an adjacent region.
+     *
+     * @param neighbor a region adjacent to this one
+     * @return the travel time to {@code neighbor}
+     * @throws IllegalArgumentException if {@code neighbor} is not adjacent to this region
+     */
+    public int getTravelTimeTo(ValidRegion neighbor) {
+        int travelTime = GRAPH.getTravelTime(ordinal(), neighbor.ordinal());
+        if (travelTime == -1) {
+            throw new IllegalArgumentException(neighbor + " is not adjacent to " + this);
+        }
+        return travelTime;
+    }
+
     /**
      * Finds a region by its lowercase display name.
      *
@@ -113,13 +143,7 @@ public enum ValidRegion {
         if (name == null) {
             return null;
         }
-
-        for (ValidRegion region : values()) {
-            if (region.displayName.equalsIgnoreCase(name)) {
-                return region;
-            }
-        }
-        return null;
+        return REGIONS_BY_NAME.get(name.toLowerCase());
     }
 
     /**
@@ -130,30 +154,52 @@ public enum ValidRegion {
      *      otherwise
      */
     public static boolean isValidRegion(String name) {
-        if (name == null) {
-            return false;
-        }
-
-        for (ValidRegion region : values()) {
-            if (region.displayName.equalsIgnoreCase(name)) {
-                return true;
-            }
-        }
-        return false;
+        return fromName(name) != null;
     }
 
     /**
-     * Returns the shortest distance between two regions.
+     * Returns the shortest travel time in minutes between two regions.
      *
      * @param from the starting {@code ValidRegion}
      * @param to the destination {@code ValidRegion}
-     * @return the shortest distance between the two regions, or
+     * @return the shortest travel time between the two regions, or
      *      {@code Integer.MAX_VALUE} if no path exists
      */
     public static int getDistance(ValidRegion from, ValidRegion to) {
-        assert DIST_MATRIX != null : "Distance matrix not initialized. Run computeDistanceMatrix() first.";
+        return GRAPH.getDistance(from.ordinal(), to.ordinal());
+    }
 
-        return DIST_MATRIX[from.ordinal()][to.ordinal()];
+    /**
+     * Returns all regions ordered by their distance from a region, then by display name.
+     * The region itself comes first, and regions that cannot be reached come last.
+     *
+     * @param origin the region to measure distances from
+     * @return an unmodifiable list of all regions
+     */
+    public static List<ValidRegion> getRegionsByDistanceFrom(ValidRegion origin) {
+        int[] regions = GRAPH.getRegionsByDistanceFrom(origin.ordinal());
+        return new AbstractList<>() {
+            @Override
+            public ValidRegion get(int index) {
+                return VALUES[regions[index]];
+            }
+
+            @Override
+            public int size() {
+                return regions.length;
+            }
+        };
+    }
+
+    /**
+     * Returns the shortest travel time in minutes from every region to the nearest of some regions.
+     *
+     * @param sources the regions to measure distances from
+     * @return the distances indexed by the ordinal of each region, with {@code Integer.MAX_VALUE} for regions that
+     *      cannot reach any of {@code sources}
+     */
+    public static int[] getDistancesFromNearest(Collection<ValidRegion> sources) {
+        return GRAPH.getDistancesFromNearest(sources.stream().mapToInt(ValidRegion::ordinal).toArray());
     }
 
     /**
@@ -184,118 +230,40 @@ public enum ValidRegion {
     }
 
     /**
-     * Initialises all adjacency relations. This is called once in a static
-     * initialization block.
+     * Loads the region graph from {@link #TRAVEL_TIMES_RESOURCE}, in which every line after the header names two
+     * adjacent regions and the travel time in minutes between them.
+     * This is called once when the class is initialised.
+     *
+     * @throws IllegalStateException if the file is missing, malformed or names an unknown region
      */
-    private static void initialiseAdjacencies() {
-        Map<ValidRegion, Set<ValidRegion>> adjacencyMap = new HashMap<>();
-
-        // Helper to add bidirectional adjacency
-        BiConsumer<ValidRegion, ValidRegion> addAdjacency = (a, b) -> {
-            adjacencyMap.computeIfAbsent(a, k -> new HashSet<>()).add(b);
-            adjacencyMap.computeIfAbsent(b, k -> new HashSet<>()).add(a);
-        };
-
-        // --- North ---
-        addAdjacency.accept(WOODLANDS, SEMBAWANG);
-        addAdjacency.accept(WOODLANDS, SUNGEI_KADUT);
-        addAdjacency.accept(YISHUN, SEMBAWANG);
-        addAdjacency.accept(YISHUN, ANG_MO_KIO);
-        addAdjacency.accept(YISHUN, MANDAI);
-        addAdjacency.accept(YISHUN, SELETAR);
-        addAdjacency.accept(SEMBAWANG, MANDAI);
-        addAdjacency.accept(MANDAI, SUNGEI_KADUT);
-        addAdjacency.accept(SUNGEI_KADUT, LIM_CHU_KANG);
-        addAdjacency.accept(SUNGEI_KADUT, BUKIT_PANJANG);
-
-        // --- North-East ---
-        addAdjacency.accept(PUNGGOL, SENGKANG);
-        addAdjacency.accept(PUNGGOL, PASIR_RIS);
-        addAdjacency.accept(PUNGGOL, SELETAR);
-        addAdjacency.accept(SENGKANG, HOUGANG);
-        addAdjacency.accept(SENGKANG, SELETAR);
-        addAdjacency.accept(HOUGANG, PAYA_LEBAR);
-        addAdjacency.accept(HOUGANG, SERANGOON);
-        addAdjacency.accept(HOUGANG, ANG_MO_KIO);
-        addAdjacency.accept(SELETAR, ANG_MO_KIO);
-        addAdjacency.accept(SERANGOON, BISHAN);
-        addAdjacency.accept(SERANGOON, TOA_PAYOH);
-
-        // --- East ---
-        addAdjacency.accept(PASIR_RIS, TAMPINES);
-        addAdjacency.accept(TAMPINES, BEDOK);
-        addAdjacency.accept(TAMPINES, PAYA_LEBAR);
-        addAdjacency.accept(TAMPINES, CHANGI);
-        addAdjacency.accept(BEDOK, PAYA_LEBAR);
-        addAdjacency.accept(BEDOK, MARINE_PARADE);
-        addAdjacency.accept(PAYA_LEBAR, GEYLANG);
-        addAdjacency.accept(PAYA_LEBAR, MARINE_PARADE);
-        addAdjacency.accept(GEYLANG, MARINE_PARADE);
-
-        // --- Central ---
-        addAdjacency.accept(TOA_PAYOH, BISHAN);
-        addAdjacency.accept(TOA_PAYOH, NOVENA);
-        addAdjacency.accept(TOA_PAYOH, KALLANG);
-        addAdjacency.accept(BISHAN, ANG_MO_KIO);
-        addAdjacency.accept(BISHAN, BUKIT_TIMAH);
-        addAdjacency.accept(ANG_MO_KIO, SELETAR);
-        addAdjacency.accept(ANG_MO_KIO, YISHUN);
-        addAdjacency.accept(NOVENA, GEYLANG);
-        addAdjacency.accept(NOVENA, KALLANG);
-        addAdjacency.accept(MARINE_PARADE, KALLANG);
-        addAdjacency.accept(KALLANG, QUEENSTOWN);
-        addAdjacency.accept(QUEENSTOWN, BUKIT_MERAH);
-        addAdjacency.accept(QUEENSTOWN, BUKIT_TIMAH);
-        addAdjacency.accept(BUKIT_MERAH, TANGLIN);
-        addAdjacency.accept(BUKIT_TIMAH, CLEMENTI);
-        addAdjacency.accept(BUKIT_TIMAH, BUKIT_BATOK);
-        addAdjacency.accept(TANGLIN, RIVER_VALLEY);
-        addAdjacency.accept(RIVER_VALLEY, BUKIT_MERAH);
-
-        // --- West ---
-        addAdjacency.accept(JURONG_WEST, JURONG_EAST);
-        addAdjacency.accept(JURONG_WEST, BOON_LAY);
-        addAdjacency.accept(JURONG_WEST, TUAS);
-        addAdjacency.accept(BOON_LAY, TUAS);
-        addAdjacency.accept(JURONG_EAST, CLEMENTI);
-        addAdjacency.accept(JURONG_EAST, BUKIT_BATOK);
-        addAdjacency.accept(JURONG_EAST, TENGAH);
-        addAdjacency.accept(CLEMENTI, BUKIT_BATOK);
-        addAdjacency.accept(BUKIT_BATOK, BUKIT_PANJANG);
-        addAdjacency.accept(BUKIT_PANJANG, LIM_CHU_KANG);
-        addAdjacency.accept(LIM_CHU_KANG, WESTERN_WATER_CATCHMENT);
-        addAdjacency.accept(WESTERN_WATER_CATCHMENT, TUAS);
-
-        // Assign sets to enum fields
-        adjacencyMap.forEach((region, neighbors) -> region.setAdjacents(neighbors.toArray(new ValidRegion[0])));
+    private static RegionGraph loadGraph() {
+        List<String> names = Arrays.stream(VALUES).map(ValidRegion::getDisplayName).collect(Collectors.toList());
+        RegionGraph graph;
+        try (InputStream in = ValidRegion.class.getResourceAsStream(TRAVEL_TIMES_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing region travel times " + TRAVEL_TIMES_RESOURCE);
+            }
+            graph = RegionGraph.fromCsv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)),
+                    names, DISTANCE_ROW_CACHE_SIZE);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("Could not read region travel times " + TRAVEL_TIMES_RESOURCE, e);
+        }
+        if (graph.size() != VALUES.length) {
+            throw new IllegalStateException("Unknown region " + graph.getName(VALUES.length) + " in "
+                    + TRAVEL_TIMES_RESOURCE);
+        }
+        return graph;
     }
 
     /**
-     * BFS to compute the shortest distances from a source region to all others.
-     * This is called once for each region in a static initialization block.
-     *
-     * @param source the region to start the BFS from
+     * Initialises all adjacency relations from the region graph. This is called once in a static
+     * initialization block.
      */
-    private static void bfsComputeDistances(ValidRegion source) {
-        int start = source.ordinal();
-        Queue<ValidRegion> queue = new ArrayDeque<>();
-        queue.add(source);
-
-        boolean[] visited = new boolean[N];
-        visited[start] = true;
-
-        while (!queue.isEmpty()) {
-            ValidRegion current = queue.poll();
-            int currentIndex = current.ordinal();
-
-            for (ValidRegion neighbor : current.adjacentRegions) {
-                int neighborIndex = neighbor.ordinal();
-                if (!visited[neighborIndex]) {
-                    visited[neighborIndex] = true;
-                    DIST_MATRIX[start][neighborIndex] = DIST_MATRIX[start][currentIndex] + 1;
-                    queue.add(neighbor);
-                }
-            }
+    private static void initialiseAdjacencies() {
+        for (ValidRegion region : VALUES) {
+            region.setAdjacents(Arrays.stream(GRAPH.getNeighbours(region.ordinal()))
+                    .mapToObj(neighbor -> VALUES[neighbor])
+                    .toArray(ValidRegion[]::new));
         }
     }
 
@@ -324,21 +292,15 @@ public enum ValidRegion {
     }
 
     static {
+        // Index regions by name
+        for (ValidRegion region : VALUES) {
+            REGIONS_BY_NAME.put(region.displayName.toLowerCase(), region);
+        }
+
         // Initialise Adjacency lists
         initialiseAdjacencies();
 
         assertAdjacencyInitialised();
         assertAdjacencySymmetry();
-
-        // Initialise distance matrix
-        for (int i = 0; i < N; i++) {
-            Arrays.fill(DIST_MATRIX[i], Integer.MAX_VALUE);
-            DIST_MATRIX[i][i] = 0; // Distance to itself is 0
-        }
-
-        // Run BFS from each region to compute shortest distances
-        for (ValidRegion source : values()) {
-            bfsComputeDistances(source);
-        }
     }
 }
@@ -0,0 +1,158 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A pairing of beneficiaries with volunteers that keeps the total distance between the regions of every pair as
+ * small as possible, with each volunteer paired with at most a given number of beneficiaries.
+ * As many beneficiaries as the volunteers can take are paired.
+ */
+public class VolunteerAssignment {
+
+    private final Map<Person, List<Person>> beneficiariesByVolunteer;
+    private final List<Person> unassignedBeneficiaries;
+    private final long totalDistance;
+    private final int maxDistance;
+
+    private VolunteerAssignment(Map<Person, List<Person>> beneficiariesByVolunteer,
+            List<Person> unassignedBeneficiaries, long totalDistance, int maxDistance) {
+        this.beneficiariesByVolunteer = beneficiariesByVolunteer;
+        this.unassignedBeneficiaries = unassignedBeneficiaries;
+        this.totalDistance = totalDistance;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Pairs {@code beneficiaries} with {@code volunteers}, with each volunteer paired with at most
+     * {@code capacity} beneficiaries.
+     * All persons in a region are the same distance from any other region, so the pairing is first solved between
+     * regions as a min-cost flow from the regions of the volunteers to the regions of the beneficiaries. The size of
+     * that network only depends on the number of regions, not on the number of persons. The beneficiaries that flow
+     * from one region to another are then handed out in turn to the volunteers of the first region, so that no
+     * volunteer in a region has more than one beneficiary more than another.
+     */
+    public static VolunteerAssignment assign(List<Person> volunteers, List<Person> beneficiaries, int capacity) {
+        requireAllNonNull(volunteers, beneficiaries);
+        checkArgument(capacity > 0, "The maximum number of beneficiaries per volunteer must be positive.");
+
+        ValidRegion[] regions = ValidRegion.values();
+        List<List<Person>> volunteersByRegion = groupByRegion(volunteers);
+        List<List<Person>> beneficiariesByRegion = groupByRegion(beneficiaries);
+
+        // node 0 is the source, node 1 is the sink, then one node per region for each role
+        int source = 0;
+        int sink = 1;
+        MinCostFlow network = new MinCostFlow(2 + 2 * regions.length);
+        for (int region = 0; region < regions.length; region++) {
+            network.addEdge(source, 2 + region, (long) volunteersByRegion.get(region).size() * capacity, 0);
+            network.addEdge(2 + regions.length + region, sink, beneficiariesByRegion.get(region).size(), 0);
+        }
+        int[][] edgeIds = new int[regions.length][regions.length];
+        for (int from = 0; from < regions.length; from++) {
+            for (int to = 0; to < regions.length; to++) {
+                int distance = ValidRegion.getDistance(regions[from], regions[to]);
+                edgeIds[from][to] = -1;
+                if (distance != Integer.MAX_VALUE && !volunteersByRegion.get(from).isEmpty()
+                        && !beneficiariesByRegion.get(to).isEmpty()) {
+                    edgeIds[from][to] = network.addEdge(2 + from, 2 + regions.length + to,
+                            beneficiariesByRegion.get(to).size(), distance);
+                }
+            }
+        }
+        network.solve(source, sink);
+
+        Map<Person, List<Person>> beneficiariesByVolunteer = new LinkedHashMap<>();
+        volunteers.forEach(volunteer -> beneficiariesByVolunteer.put(volunteer, new ArrayList<>()));
+        Set<Person> assignedBeneficiaries = new HashSet<>();
+        int[] assignedCountByRegion = new int[regions.length];
+        long totalDistance = 0;
+        int maxDistance = 0;
+        for (int from = 0; from < regions.length; from++) {
+            List<Person> regionVolunteers = volunteersByRegion.get(from);
+            int nextVolunteer = 0;
+            for (int to = 0; to < regions.length; to++) {
+                if (edgeIds[from][to] == -1) {
+                    continue;
+                }
+                long flow = network.getFlow(edgeIds[from][to]);
+                int distance = ValidRegion.getDistance(regions[from], regions[to]);
+                for (long i = 0; i < flow; i++) {
+                    Person beneficiary = beneficiariesByRegion.get(to).get(assignedCountByRegion[to]++);
+                    beneficiariesByVolunteer.get(regionVolunteers.get(nextVolunteer)).add(beneficiary);
+                    assignedBeneficiaries.add(beneficiary);
+                    nextVolunteer = (nextVolunteer + 1) % regionVolunteers.size();
+                    totalDistance += distance;
+                    maxDistance = Math.max(maxDistance, distance);
+                }
+            }
+        }
+
+        beneficiariesByVolunteer.values().removeIf(List::isEmpty);
+        beneficiariesByVolunteer.replaceAll((volunteer, assigned) -> Collections.unmodifiableList(assigned));
+        List<Person> unassignedBeneficiaries = new ArrayList<>();
+        for (Person beneficiary : beneficiaries) {
+            if (!assignedBeneficiaries.contains(beneficiary)) {
+                unassignedBeneficiaries.add(beneficiary);
+            }
+        }
+        return new VolunteerAssignment(Collections.unmodifiableMap(beneficiariesByVolunteer),
+                Collections.unmodifiableList(unassignedBeneficiaries), totalDistance, maxDistance);
+    }
+
+    private static List<List<Person>> groupByRegion(List<Person> persons) {
+        List<List<Person>> personsByRegion = new ArrayList<>();
+        for (int i = 0; i < ValidRegion.values().length; i++) {
+            personsByRegion.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            personsByRegion.get(person.getRegion().value.ordinal()).add(person);
+        }
+        return personsByRegion;
+    }
+
+    /**
+     * Returns the beneficiaries paired with each volunteer that is paired with any, in the order the volunteers were
+     * given.
+     */
+    public Map<Person, List<Person>> getBeneficiariesByVolunteer() {
+        return beneficiariesByVolunteer;
+    }
+
+    /**
+     * Returns the beneficiaries that could not be paired because every volunteer they can reach is full, in the
+     * order they were given.
+     */
+    public List<Person> getUnassignedBeneficiaries() {
+        return unassignedBeneficiaries;
+    }
+
+    /**
+     * Returns the number of beneficiaries that are paired with a volunteer.
+     */
+    public int getAssignedCount() {
+        return beneficiariesByVolunteer.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns the sum of the distances between the regions of every pair.
+     */
+    public long getTotalDistance() {
+        return totalDistance;
+    }
+
+    /**
+     * Returns the largest distance between the regions of a pair, or 0 if there are no pairs.
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the supported {@link DataFileFormat}s.
+ * Both formats hold exactly the fields of every person, so converting a file back and forth loses no data.
+ */
+public class AddressBookFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Returns a storage that reads and writes the data file at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, DataFileFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}.
+     */
+    public static DataFileFormat detectFormat(Path filePath) throws IOException {
+        return BinaryAddressBookStorage.isBinaryFile(filePath) ? DataFileFormat.BINARY : DataFileFormat.JSON;
+    }
+
+    /**
+     * Reads the data file at {@code source} stored in {@code sourceFormat} and writes it to {@code target} in
+     * {@code targetFormat}.
+     *
+     * @return false if there is no data file at {@code source}.
+     * @throws DataLoadingException if the data file at {@code source} could not be read.
+     * @throws IOException if the data file at {@code target} could not be written.
+     */
+    public static boolean convert(Path source, DataFileFormat sourceFormat, Path target, DataFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = createStorage(source, sourceFormat).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+
+        createStorage(target, targetFormat).saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath} in {@code targetFormat} if it is currently stored in the other
+     * format, e.g. after the preferred format was changed in the user prefs.
+     *
+     * @return true if the data file was converted.
+     * @throws DataLoadingException if the data file could not be read.
+     * @throws IOException if the converted data file could not be written.
+     */
+    public static boolean convertIfNeeded(Path filePath, DataFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(targetFormat);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+
+        DataFileFormat currentFormat = detectFormat(filePath);
+        if (currentFormat == targetFormat) {
+            return false;
+        }
+
+        logger.info("Converting data file " + filePath + " from " + currentFormat + " to " + targetFormat);
+        return convert(filePath, currentFormat, filePath, targetFormat);
+    }
+
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves AddressBook data to {@link Storage} on a dedicated worker thread.
+ * Each request captures an immutable snapshot of the address book on the calling thread, unless the address book has
+ * not changed since the last request. Requests that arrive while a write is already waiting to run replace the
+ * waiting snapshot, so a burst of changes results in a single write.
+ * Failed writes are reported to the failure handler on the worker thread.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    // the last requested version before any request, or after the write of the last requested version failed
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    private final Storage storage;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<IOException> failureHandler = unused -> { };
+    private ReadOnlyAddressBook pendingSnapshot;
+    private long pendingVersion;
+    private boolean isWriteScheduled;
+    private long lastRequestedVersion = NO_VERSION;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage}.
+     */
+    public BackgroundAddressBookSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is called with the exception of every failed write.
+     * The handler runs on the worker thread.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} at {@code mutationVersion} to be saved, replacing any snapshot that is still
+     * waiting to be written.
+     * Does nothing if {@code mutationVersion} is the version of the last request, so commands that do not change the
+     * address book do not copy its persons.
+     *
+     * @see Storage#saveAddressBookIfChanged(ReadOnlyAddressBook, long)
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook, long mutationVersion) {
+        requireNonNull(addressBook);
+        if (mutationVersion == lastRequestedVersion) {
+            return;
+        }
+
+        lastRequestedVersion = mutationVersion;
+        pendingSnapshot = snapshotOf(addressBook);
+        pendingVersion = mutationVersion;
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            worker.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written or has failed.
+     */
+    public void flush() {
+        try {
+            worker.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves to finish");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        long version;
+        Consumer<IOException> handler;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            version = pendingVersion;
+            handler = failureHandler;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+
+        try {
+            storage.saveAddressBookIfChanged(snapshot, version);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            synchronized (this) {
+                // the next request for the same version tries again
+                if (lastRequestedVersion == version) {
+                    lastRequestedVersion = NO_VERSION;
+                }
+            }
+            handler.accept(e);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not affected by later changes to it.
+     * {@code Person} is immutable, so copying the list of references is enough.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
+    }
+
+}
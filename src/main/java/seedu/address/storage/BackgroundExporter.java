@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports lists of persons with {@link PersonListExporter} on a dedicated worker thread, one export at a time.
+ * The progress and outcome of every export are reported as user-facing messages to the status handler, which runs on
+ * the worker thread.
+ */
+public class BackgroundExporter {
+
+    public static final String MESSAGE_PROGRESS = "Exporting to %1$s: %2$d of %3$d person(s) written...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d person(s) to %2$s";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundExporter.class);
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<String> statusHandler = unused -> { };
+
+    /**
+     * Sets the handler that is called with a message about the progress and outcome of every export.
+     * The handler runs on the worker thread.
+     */
+    public synchronized void setStatusHandler(Consumer<String> statusHandler) {
+        requireNonNull(statusHandler);
+        this.statusHandler = statusHandler;
+    }
+
+    /**
+     * Schedules {@code persons} to be exported to {@code filePath} in {@code format}.
+     * {@code persons} must not be changed afterwards.
+     */
+    public void submit(List<Person> persons, Path filePath, ExportFormat format) {
+        requireAllNonNull(persons, filePath, format);
+        worker.execute(() -> export(persons, filePath, format));
+    }
+
+    /**
+     * Blocks until every export submitted so far has finished or has failed.
+     */
+    public void flush() {
+        try {
+            worker.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending exports to finish");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
+    }
+
+    private void export(List<Person> persons, Path filePath, ExportFormat format) {
+        Consumer<String> handler;
+        synchronized (this) {
+            handler = statusHandler;
+        }
+
+        try {
+            PersonListExporter.export(persons, filePath, format, writtenCount -> {
+                if (writtenCount < persons.size()) {
+                    handler.accept(String.format(MESSAGE_PROGRESS, filePath, writtenCount, persons.size()));
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Failed to export to " + filePath + " " + StringUtil.getDetails(e));
+            handler.accept(String.format(MESSAGE_FAILURE, filePath, e.getMessage()));
+            return;
+        }
+        handler.accept(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+    }
+
+}
@@ -0,0 +1,329 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ValidRegion;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a dictionary of every distinct tag name and
+ * then the persons. Each person starts with its ID. Each string is stored as its UTF-8 length followed by its UTF-8
+ * bytes, the region as the ordinal of its {@link ValidRegion}, the coordinates as a byte that is 1 if they are known
+ * followed by the latitude and longitude if so, and each tag as its position in the dictionary.
+ * {@link #FORMAT_VERSION} must be increased whenever this layout or the order of {@code ValidRegion} changes.
+ * Files of version 1, which has no person IDs, and of version 2, which has no coordinates, can still be read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 3;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Data file is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary address book is corrupted.";
+
+    /** The bytes {@code CLAB} at the start of every binary address book. */
+    static final int MAGIC = 0x434C4142;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOAD_BATCH_SIZE = 4096;
+    private static final int VERSION_WITHOUT_IDS = 1;
+    private static final int VERSION_WITHOUT_COORDINATES = 2;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the binary address book magic number.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A temporary file left behind by an interrupted save is resolved first.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            FileUtil.recoverInterruptedWrite(filePath, BinaryAddressBookStorage::isCompleteAddressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error recovering from an interrupted save of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(readPersons(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ParallelPersonLoader.describe(ive));
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    private static boolean isCompleteAddressBook(Path filePath) {
+        try {
+            readPersons(filePath);
+            return true;
+        } catch (IOException | IllegalValueException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads every person in the binary address book at {@code filePath}.
+     * Records are decoded straight from the buffer returned by {@link FileUtil#openReadBuffer(Path)}, so a large
+     * file is read from a memory mapping instead of being copied onto the heap first. Persons are validated in
+     * parallel batches by the same {@link ParallelPersonLoader} as persons read from a JSON file.
+     *
+     * @throws IllegalValueException if a person violates any data constraints or is a duplicate.
+     * @throws IOException if the file is not a complete binary address book.
+     */
+    private static AddressBook readPersons(Path filePath) throws IOException, IllegalValueException {
+        try {
+            return readPersons(new BinaryReader(FileUtil.openReadBuffer(filePath)));
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPT_FILE, e);
+        }
+    }
+
+    private static AddressBook readPersons(BinaryReader in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version < VERSION_WITHOUT_IDS || version > FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] tagDictionary = new String[in.readCount()];
+        for (int i = 0; i < tagDictionary.length; i++) {
+            tagDictionary[i] = in.readString();
+        }
+
+        ValidRegion[] regions = ValidRegion.values();
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        int personCount = in.readCount();
+        for (int i = 0; i < personCount; i++) {
+            long id = version == VERSION_WITHOUT_IDS ? Person.NO_ID : in.readLong();
+            String name = in.readString();
+            String phone = in.readString();
+            String email = in.readString();
+            String address = in.readString();
+            int regionOrdinal = in.readUnsignedByte();
+            if (regionOrdinal >= regions.length) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            Double latitude = null;
+            Double longitude = null;
+            if (version > VERSION_WITHOUT_COORDINATES && in.readUnsignedByte() == 1) {
+                latitude = in.readDouble();
+                longitude = in.readDouble();
+            }
+
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            int tagCount = in.readCount();
+            for (int j = 0; j < tagCount; j++) {
+                int tagIndex = in.readInt();
+                if (tagIndex < 0 || tagIndex >= tagDictionary.length) {
+                    throw new IOException(MESSAGE_CORRUPT_FILE);
+                }
+                tags.add(new JsonAdaptedTag(tagDictionary[tagIndex]));
+            }
+
+            batch.add(new JsonAdaptedPerson(id == Person.NO_ID ? null : id, name, phone, email, address,
+                    regions[regionOrdinal].getDisplayName(), latitude, longitude, tags));
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                loader.addBatch(batch);
+                batch.clear();
+            }
+        }
+        loader.addBatch(batch);
+
+        if (in.hasRemaining()) {
+            throw new IOException(MESSAGE_CORRUPT_FILE);
+        }
+        return loader.toAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is written to a temporary sibling file and synced to disk before it replaces {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> tagDictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagDictionary.putIfAbsent(tag.tagName, tagDictionary.size());
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(tagDictionary.size());
+            for (String tagName : tagDictionary.keySet()) {
+                writeString(out, tagName);
+            }
+
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                out.writeLong(person.getId());
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                out.writeByte(person.getRegion().value.ordinal());
+                out.writeByte(person.getCoordinates().isPresent() ? 1 : 0);
+                if (person.getCoordinates().isPresent()) {
+                    out.writeDouble(person.getCoordinates().get().latitude);
+                    out.writeDouble(person.getCoordinates().get().longitude);
+                }
+                out.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    out.writeInt(tagDictionary.get(tag.tagName));
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+        FileUtil.replaceAtomically(tempFilePath, filePath);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes the primitive values of a binary address book from a buffer.
+     * Strings are decoded through one reusable scratch array, so no other copy of the buffer is made.
+     */
+    private static class BinaryReader {
+
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[256];
+
+        BinaryReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        long readLong() {
+            return buffer.getLong();
+        }
+
+        double readDouble() {
+            return buffer.getDouble();
+        }
+
+        int readUnsignedByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        /**
+         * Reads a count, which can never be larger than the number of bytes left in a valid file.
+         */
+        int readCount() throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            return count;
+        }
+
+        String readString() throws IOException {
+            int length = readCount();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        boolean hasRemaining() {
+            return buffer.hasRemaining();
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A list of persons that journal entries are replayed onto.
+ * The position of every person is indexed by its ID and by its identity key, so that the person a journal entry refers
+ * to is found without scanning the list. Entries written before persons had IDs are matched by identity key only.
+ */
+class JournalReplayList {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<Long, Integer> positionById = new HashMap<>();
+    private final Map<String, Integer> positionByIdentity = new HashMap<>();
+
+    /**
+     * Creates a {@code JournalReplayList} holding {@code persons}.
+     */
+    public JournalReplayList(List<Person> persons) {
+        this.persons.addAll(persons);
+        reindexFrom(0);
+    }
+
+    /**
+     * Places {@code person} at {@code index}, or replaces the person with the same ID or identity if there is one.
+     */
+    public void put(int index, Person person) {
+        Integer existing = positionOf(person.getId(), person.getIdentityKey());
+        if (existing != null) {
+            Person replaced = persons.set(existing, person);
+            unindex(replaced);
+            index(person, existing);
+            return;
+        }
+
+        int insertAt = Math.min(index, persons.size());
+        persons.add(insertAt, person);
+        reindexFrom(insertAt);
+    }
+
+    /**
+     * Removes the person with the given ID, or failing that the given identity, if there is one.
+     *
+     * @param id the ID of the person, or {@link Person#NO_ID} if the entry did not record one.
+     */
+    public void delete(long id, String name, String phone) {
+        Integer existing = positionOf(id, Person.toIdentityKey(name, phone));
+        if (existing != null) {
+            unindex(persons.remove((int) existing));
+            reindexFrom(existing);
+        }
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    private Integer positionOf(long id, String identityKey) {
+        Integer position = id == Person.NO_ID ? null : positionById.get(id);
+        return position != null ? position : positionByIdentity.get(identityKey);
+    }
+
+    private void index(Person person, int position) {
+        if (person.hasId()) {
+            positionById.put(person.getId(), position);
+        }
+        positionByIdentity.put(person.getIdentityKey(), position);
+    }
+
+    private void unindex(Person person) {
+        positionById.remove(person.getId());
+        positionByIdentity.remove(person.getIdentityKey());
+    }
+
+    /**
+     * Updates the indexed position of every person from {@code start} onwards after the list has shifted.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < persons.size(); i++) {
+            index(persons.get(i), i);
+        }
+    }
+
+}
@@ -0,0 +1,378 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only journal of changes.
+ * Saving only appends one record per added, edited or deleted person instead of rewriting the whole snapshot.
+ * Reading replays the journal on top of the last snapshot. Once the journal grows past a size threshold it is
+ * folded into a fresh snapshot in the background.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String COMPACTING_SUFFIX = ".compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Path lastSavedPath;
+    private List<Person> lastSavedPersons;
+    private Future<?> pendingCompaction;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage} and compacts
+     * the journal once it is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the journal file that records changes made on top of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns the journal file that is being folded into the snapshot at {@code filePath}.
+     */
+    static Path getCompactingPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX + COMPACTING_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path compactingPath = getCompactingPath(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (!snapshot.isPresent() && !FileUtil.isFileExists(compactingPath) && !FileUtil.isFileExists(journalPath)) {
+            return Optional.empty();
+        }
+
+        List<Person> snapshotPersons = snapshot.isPresent() ? snapshot.get().getPersonList() : List.of();
+        JournalReplayList replayList = new JournalReplayList(snapshotPersons);
+        boolean isCompactingTorn = replayJournal(compactingPath, replayList);
+        boolean isJournalTorn = replayJournal(journalPath, replayList);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(replayList.getPersons());
+        if (isCompactingTorn || isJournalTorn) {
+            // new records must not be appended onto the incomplete one, where they could never be read back
+            try {
+                writeSnapshot(addressBook, filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to replace journals with incomplete records of " + filePath + ": " + ioe);
+                lastSavedPath = null;
+                lastSavedPersons = null;
+                return Optional.of(addressBook);
+            }
+        }
+        lastSavedPath = filePath;
+        lastSavedPersons = new ArrayList<>(replayList.getPersons());
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last save to the same {@code filePath} are appended to the journal. A full snapshot
+     * is written instead if there is no previous save to compare against or the changes are too large.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Optional<List<JsonAdaptedJournalEntry>> entries = filePath.equals(lastSavedPath)
+                ? diff(lastSavedPersons, persons)
+                : Optional.empty();
+
+        if (!entries.isPresent()) {
+            writeSnapshot(addressBook, filePath);
+        } else if (!entries.get().isEmpty()) {
+            appendToJournal(entries.get(), filePath);
+        }
+        lastSavedPath = filePath;
+        lastSavedPersons = persons;
+
+        Path journalPath = getJournalPath(filePath);
+        if (FileUtil.isFileExists(journalPath) && Files.size(journalPath) > compactionThreshold) {
+            startCompaction(persons, filePath);
+        }
+    }
+
+    /**
+     * Returns the journal entries that turn {@code previous} into {@code current}, or {@code Optional.empty()} if the
+     * change is better stored as a full snapshot.
+     */
+    static Optional<List<JsonAdaptedJournalEntry>> diff(List<Person> previous, List<Person> current) {
+        Set<Person> previousSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        previousSet.addAll(previous);
+        Set<Person> currentSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentSet.addAll(current);
+
+        List<Person> removed = new ArrayList<>();
+        for (Person person : previous) {
+            if (!currentSet.contains(person)) {
+                removed.add(person);
+            }
+        }
+        List<Integer> addedIndices = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            if (!previousSet.contains(current.get(i))) {
+                addedIndices.add(i);
+            }
+        }
+
+        int changeCount = removed.size() + addedIndices.size();
+        if (changeCount > Math.max(previous.size(), current.size()) / 2 + 1) {
+            return Optional.empty();
+        }
+
+        // Edited persons keep their ID, so they are covered by the put that replaces them in place
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Person person : removed) {
+            boolean isReplaced = addedIndices.stream().map(current::get).anyMatch(added ->
+                    (person.hasId() && added.getId() == person.getId()) || added.isSamePerson(person));
+            if (!isReplaced) {
+                entries.add(JsonAdaptedJournalEntry.delete(person));
+            }
+        }
+        for (int i : addedIndices) {
+            entries.add(JsonAdaptedJournalEntry.put(i, current.get(i)));
+        }
+
+        // Only keep the entries if replaying them reproduces the exact list, including its order
+        JournalReplayList replayList = new JournalReplayList(previous);
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(replayList);
+            }
+        } catch (IllegalValueException ive) {
+            return Optional.empty();
+        }
+        List<Person> replayed = replayList.getPersons();
+        if (replayed.size() != current.size()) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!replayed.get(i).equals(current.get(i))) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Replays every entry of the journal at {@code journalPath} onto {@code persons}.
+     * A final line without a line separator is a record that was being written when the application stopped. It is
+     * replayed if it can be read and skipped otherwise.
+     *
+     * @return true if the journal ends with such a line, so that nothing may be appended to it.
+     */
+    private static boolean replayJournal(Path journalPath, JournalReplayList persons) throws DataLoadingException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+
+        String[] lines;
+        try {
+            // decoding replaces a character cut off at the end instead of failing
+            lines = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8).split("\\R", -1);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        // the last element is what follows the last line separator, which is empty for a complete journal
+        int lastIndex = lines.length - 1;
+        boolean isTorn = !lines[lastIndex].isEmpty();
+        for (int i = 0; i <= lastIndex; i++) {
+            String line = lines[i];
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lastIndex) {
+                    logger.warning("Skipping incomplete last record of journal file " + journalPath);
+                    return isTorn;
+                }
+                logger.warning("Error reading record " + (i + 1) + " of journal file " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in record " + (i + 1) + " of " + journalPath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return isTorn;
+    }
+
+    /**
+     * Appends one line per entry to the journal and flushes it to the storage device before returning, so that an
+     * appended change survives a power loss just like a full snapshot.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries, Path filePath) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        FileUtil.createParentDirsOfFile(journalPath);
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot and discards the journals it supersedes.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        awaitCompaction();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getCompactingPath(filePath));
+    }
+
+    /**
+     * Moves the current journal aside and folds it into a fresh snapshot of {@code persons} in the background.
+     * New changes keep being appended to a new journal in the meantime.
+     */
+    private void startCompaction(List<Person> persons, Path filePath) throws IOException {
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return;
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        Path compactingPath = getCompactingPath(filePath);
+        if (FileUtil.isFileExists(compactingPath)) {
+            // An earlier compaction failed, so its journal still has to be kept until a snapshot succeeds
+            Files.write(compactingPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        ObservableList<Person> snapshotPersons =
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        ReadOnlyAddressBook snapshot = () -> snapshotPersons;
+        logger.fine("Compacting journal " + journalPath);
+        pendingCompaction = compactor.submit(() -> {
+            try {
+                snapshotStorage.saveAddressBook(snapshot, filePath);
+                Files.deleteIfExists(compactingPath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal into " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished.
+     */
+    void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Journal compaction failed: " + ee.getCause());
+        }
+    }
+
+}
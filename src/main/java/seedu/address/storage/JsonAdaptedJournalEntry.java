@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A {@code put} entry inserts {@code person} at {@code index}, or replaces the person with the same ID or identity if
+ * one already exists. A {@code delete} entry removes the person with {@code id}, or if there is none the person
+ * identified by {@code name} and {@code phone}. Both operations are keyed on the person, so replaying an entry more
+ * than once leaves the same persons behind. Entries written before persons had IDs carry no {@code id}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_PUT = "put";
+    public static final String OP_DELETE = "delete";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing or has incorrect fields!";
+
+    private final String op;
+    private final Integer index;
+    private final Long id;
+    private final String name;
+    private final String phone;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("id") Long id, @JsonProperty("name") String name, @JsonProperty("phone") String phone,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.person = person;
+    }
+
+    /**
+     * Creates an entry that places {@code person} at {@code index} of the person list.
+     */
+    public static JsonAdaptedJournalEntry put(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OP_PUT, index, null, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Creates an entry that removes the person with the same ID or identity as {@code person}.
+     */
+    public static JsonAdaptedJournalEntry delete(Person person) {
+        Long id = person.hasId() ? person.getId() : null;
+        return new JsonAdaptedJournalEntry(OP_DELETE, null, id, person.getName().fullName, person.getPhone().value,
+                null);
+    }
+
+    /**
+     * Applies this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if this entry or the person it carries violates any data constraints.
+     */
+    public void applyTo(JournalReplayList persons) throws IllegalValueException {
+        if (OP_PUT.equals(op) && index != null && index >= 0 && person != null) {
+            persons.put(index, person.toModelType());
+        } else if (OP_DELETE.equals(op) && name != null && phone != null) {
+            persons.delete(id == null ? Person.NO_ID : id, name, phone);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+    }
+
+}
@@ -9,10 +9,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -27,25 +29,54 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing or incorrect!";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final String region;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Double latitude;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Double longitude;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String region,
+            List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, region, tags);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no coordinates.
+     */
+    public JsonAdaptedPerson(Long id, String name, String phone, String email, String address, String region,
+            List<JsonAdaptedTag> tags) {
+        this(id, name, phone, email, address, region, null, null, tags);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} is optional, so data files written before persons had IDs can still be read, and so are
+     * {@code latitude} and {@code longitude}, which are either both present or both absent.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("region") String region, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("region") String region,
+            @JsonProperty("latitude") Double latitude, @JsonProperty("longitude") Double longitude,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.region = region;
+        this.latitude = latitude;
+        this.longitude = longitude;
         if (tags != null) {
             this.tags.addAll(tags);
         }
@@ -55,11 +86,14 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
         region = source.getRegion().value.getDisplayName();
+        latitude = source.getCoordinates().map(coordinates -> coordinates.latitude).orElse(null);
+        longitude = source.getCoordinates().map(coordinates -> coordinates.longitude).orElse(null);
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -122,12 +156,27 @@ class JsonAdaptedPerson {
         }
         final Region modelRegion = new Region(region);
 
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    latitude == null ? "latitude" : "longitude"));
+        }
+        if (latitude != null && !Coordinates.isValidCoordinates(latitude, longitude)) {
+            throw new IllegalValueException(Coordinates.MESSAGE_CONSTRAINTS);
+        }
+        final Coordinates modelCoordinates = latitude == null ? null : new Coordinates(latitude, longitude);
+
+        if (id != null && id <= Person.NO_ID) {
+            throw new IllegalValueException(Person.MESSAGE_INVALID_ID);
+        }
+        final long modelId = id == null ? Person.NO_ID : id;
+
         final Set<Tag> modelTags = new HashSet<>(personTags);
         if (modelTags.contains(new Tag("volunteer")) == modelTags.contains(new Tag("beneficiary"))) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Tag.MESSAGE_CONSTRAINTS));
         }
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelRegion, modelTags);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelRegion, modelTags,
+                modelCoordinates);
     }
 
 }
@@ -2,29 +2,60 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_MISSING_PERSON = "Persons list contains an empty entry.";
+
+    static final String PERSONS_FIELD = "persons";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int LOAD_BATCH_SIZE = 4096;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath}.
+     *
+     * @param isCompact if true, the data is saved without indentation or line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +69,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * A temporary file left behind by an interrupted save is resolved first. The file is then parsed as a stream,
+     * so persons are validated and added to the address book batch by batch, without holding the whole file or a
+     * list of every unconverted person in memory.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +79,69 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        try {
+            FileUtil.recoverInterruptedWrite(filePath, JsonAddressBookStorage::isCompleteAddressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error recovering from an interrupted save of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readPersons(parser));
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found in " + filePath + ": " + ParallelPersonLoader.describe(ive));
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Reads the {@code persons} array of the address book object that {@code parser} is positioned before.
+     * Other fields are skipped, matching how unknown properties are ignored elsewhere. Persons are handed to a
+     * {@link ParallelPersonLoader} in fixed-size batches, so only one batch of unconverted records is held in memory.
+     *
+     * @throws IllegalValueException if any person violates any data constraints or is a duplicate.
+     * @throws IOException if the file is not a valid JSON address book.
+     */
+    private static AddressBook readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected " + PERSONS_FIELD + " to be an array");
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    loader.addBatch(batch);
+                    batch.clear();
+                }
+            }
         }
+        loader.addBatch(batch);
+
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Expected the end of the address book object");
+        }
+        return loader.toAddressBook();
     }
 
     @Override
@@ -66,6 +151,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are serialized one at a time through a fixed-size buffer, so neither the whole document nor a list of
+     * adapted persons is held in memory. The data is written to a temporary sibling file and synced to disk before
+     * it replaces {@code filePath}, so an interrupted save never leaves {@code filePath} partially written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +161,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE), isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            channel.force(true);
+        }
+        FileUtil.replaceAtomically(tempFilePath, filePath);
+    }
+
+    private static boolean isCompleteAddressBook(Path filePath) {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            readPersons(parser);
+            return true;
+        } catch (IOException | IllegalValueException e) {
+            return false;
+        }
     }
 
 }
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts batches of {@code JsonAdaptedPerson} records read from a data file into an {@code AddressBook}.
+ * Each batch is validated and converted in parallel chunks on the common fork-join pool, while persons are added to
+ * the address book in file order.
+ * Loading carries on past invalid records, so that every invalid record can be reported at the end.
+ */
+class ParallelPersonLoader {
+
+    /** Number of records a single fork-join task converts without splitting further. */
+    static final int CHUNK_SIZE = 256;
+
+    /** Number of invalid records that are described individually. */
+    static final int MAX_REPORTED_RECORDS = 100;
+
+    static final String INVALID_RECORD_FORMAT = "Person %d in the data file: %s";
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<String> invalidRecords = new ArrayList<>();
+    private String firstInvalidMessage;
+    private int invalidRecordCount;
+    private int recordCount;
+
+    /**
+     * Converts {@code records}, which directly follow the records of the previous batch in the data file.
+     * A null record is treated as an invalid, empty entry.
+     */
+    public void addBatch(List<JsonAdaptedPerson> records) {
+        Person[] persons = new Person[records.size()];
+        String[] errors = new String[records.size()];
+        ForkJoinPool.commonPool().invoke(new ConvertTask(records, persons, errors, 0, records.size()));
+
+        for (int i = 0; i < records.size(); i++) {
+            recordCount++;
+            if (errors[i] != null) {
+                reportInvalidRecord(errors[i]);
+                continue;
+            }
+
+            Person person = persons[i];
+            if (addressBook.hasPerson(person)) {
+                reportInvalidRecord(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                continue;
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    /**
+     * Returns the address book holding every person added so far.
+     *
+     * @throws InvalidRecordsException if any record was invalid or a duplicate.
+     */
+    public AddressBook toAddressBook() throws InvalidRecordsException {
+        if (invalidRecordCount > 0) {
+            throw new InvalidRecordsException(firstInvalidMessage, invalidRecords, invalidRecordCount);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a description of {@code ive} for the log, listing every described invalid record if there are any.
+     */
+    static String describe(IllegalValueException ive) {
+        return ive instanceof InvalidRecordsException
+                ? ((InvalidRecordsException) ive).getDetails()
+                : ive.getMessage();
+    }
+
+    private void reportInvalidRecord(String message) {
+        if (invalidRecordCount == 0) {
+            firstInvalidMessage = message;
+        }
+        invalidRecordCount++;
+        if (invalidRecords.size() < MAX_REPORTED_RECORDS) {
+            invalidRecords.add(String.format(INVALID_RECORD_FORMAT, recordCount, message));
+        }
+    }
+
+    /**
+     * Converts the records in {@code [from, to)}, splitting the range in half until it is at most
+     * {@link #CHUNK_SIZE} long.
+     */
+    private static class ConvertTask extends RecursiveAction {
+
+        private final List<JsonAdaptedPerson> records;
+        private final Person[] persons;
+        private final String[] errors;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<JsonAdaptedPerson> records, Person[] persons, String[] errors, int from, int to) {
+            this.records = records;
+            this.persons = persons;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ConvertTask(records, persons, errors, from, mid),
+                        new ConvertTask(records, persons, errors, mid, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                JsonAdaptedPerson record = records.get(i);
+                if (record == null) {
+                    errors[i] = JsonAddressBookStorage.MESSAGE_MISSING_PERSON;
+                    continue;
+                }
+                try {
+                    persons[i] = record.toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive.getMessage();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes a list of persons to a file in one of the {@link ExportFormat}s.
+ * Persons are written one at a time through a fixed-size buffer, so the output is never held in memory as a whole.
+ * The output goes to a temporary sibling file that only replaces the target file once it is complete.
+ */
+public class PersonListExporter {
+
+    /** The number of persons written between two progress reports. */
+    public static final int PROGRESS_INTERVAL = 1000;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String VCARD_LINE_END = "\r\n";
+    private static final int VCARD_MAX_LINE_LENGTH = 75;
+
+    /**
+     * Writes {@code persons} to {@code filePath} in {@code format}, in list order.
+     * {@code progressListener} is called with the number of persons written so far after every
+     * {@link #PROGRESS_INTERVAL} persons and once all persons are written.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public static void export(List<Person> persons, Path filePath, ExportFormat format,
+            IntConsumer progressListener) throws IOException {
+        requireAllNonNull(persons, filePath, format, progressListener);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFilePath), WRITE_BUFFER_SIZE)) {
+            switch (format) {
+            case CSV:
+                writeCsv(persons, out, progressListener);
+                break;
+            case JSON:
+                writeJson(persons, out, progressListener);
+                break;
+            case VCARD:
+                writeVcards(persons, out, progressListener);
+                break;
+            default:
+                throw new AssertionError("Unknown export format: " + format);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFilePath);
+            throw e;
+        }
+        FileUtil.replaceAtomically(tempFilePath, filePath);
+        progressListener.accept(persons.size());
+    }
+
+    private static void writeCsv(List<Person> persons, OutputStream out, IntConsumer progressListener)
+            throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(CsvUtil.toLine(CsvUtil.PERSON_COLUMNS));
+        writer.write(System.lineSeparator());
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            writer.write(CsvUtil.toLine(Arrays.asList(person.getName().fullName, person.getPhone().value,
+                    person.getEmail().value, person.getAddress().value, person.getRegion().value.getDisplayName(),
+                    person.getCoordinates().map(coordinates -> String.valueOf(coordinates.latitude)).orElse(""),
+                    person.getCoordinates().map(coordinates -> String.valueOf(coordinates.longitude)).orElse(""),
+                    joinTagNames(person, " "))));
+            writer.write(System.lineSeparator());
+            reportProgress(i + 1, progressListener);
+        }
+        writer.flush();
+    }
+
+    private static void writeJson(List<Person> persons, OutputStream out, IntConsumer progressListener)
+            throws IOException {
+        JsonGenerator generator = JsonUtil.createGenerator(out, false);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(JsonAddressBookStorage.PERSONS_FIELD);
+        for (int i = 0; i < persons.size(); i++) {
+            generator.writeObject(new JsonAdaptedPerson(persons.get(i)));
+            reportProgress(i + 1, progressListener);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private static void writeVcards(List<Person> persons, OutputStream out, IntConsumer progressListener)
+            throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            String name = escapeVcardText(person.getName().fullName);
+            writeVcardLine(writer, "BEGIN:VCARD");
+            writeVcardLine(writer, "VERSION:3.0");
+            writeVcardLine(writer, "FN:" + name);
+            writeVcardLine(writer, "N:" + name + ";;;;");
+            writeVcardLine(writer, "TEL:" + escapeVcardText(person.getPhone().value));
+            writeVcardLine(writer, "EMAIL:" + escapeVcardText(person.getEmail().value));
+            // street address and locality of the structured ADR value
+            writeVcardLine(writer, "ADR:;;" + escapeVcardText(person.getAddress().value) + ";"
+                    + escapeVcardText(person.getRegion().value.getDisplayName()) + ";;;");
+            if (!person.getTags().isEmpty()) {
+                writeVcardLine(writer, "CATEGORIES:" + joinTagNames(person, ","));
+            }
+            writeVcardLine(writer, "END:VCARD");
+            reportProgress(i + 1, progressListener);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes one content line of a vCard, folding it onto continuation lines that start with a space if it is too
+     * long.
+     */
+    private static void writeVcardLine(Writer writer, String line) throws IOException {
+        int start = 0;
+        int maxLength = VCARD_MAX_LINE_LENGTH;
+        while (line.length() - start > maxLength) {
+            writer.write(line, start, maxLength);
+            writer.write(VCARD_LINE_END);
+            writer.write(' ');
+            start += maxLength;
+            // the leading space of a continuation line counts towards its length
+            maxLength = VCARD_MAX_LINE_LENGTH - 1;
+        }
+        writer.write(line, start, line.length() - start);
+        writer.write(VCARD_LINE_END);
+    }
+
+    private static String escapeVcardText(String value) {
+        return value.replace("\\", "\\\\").replace(",", "\\,").replace(";", "\\;").replace("\n", "\\n");
+    }
+
+    private static String joinTagNames(Person person, String separator) {
+        return person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(separator));
+    }
+
+    private static void reportProgress(int writtenCount, IntConsumer progressListener) {
+        if (writtenCount % PROGRESS_INTERVAL == 0) {
+            progressListener.accept(writtenCount);
+        }
+    }
+
+}
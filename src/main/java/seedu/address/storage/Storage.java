@@ -29,4 +29,25 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook} only if {@code mutationVersion} differs from the version of the last successful save.
+     *
+     * @param mutationVersion the mutation version of the model that {@code addressBook} belongs to.
+     * @return true if the address book was written, false if the save was skipped.
+     * @throws IOException if there was any problem writing to the file.
+     * @see seedu.address.model.Model#getMutationVersion()
+     */
+    boolean saveAddressBookIfChanged(ReadOnlyAddressBook addressBook, long mutationVersion) throws IOException;
+
+    /**
+     * Records that the address book at {@code mutationVersion} is already persisted, e.g. because it was just read
+     * from the data file, so that it is not written again until it changes.
+     */
+    void markAddressBookSaved(long mutationVersion);
+
+    /**
+     * Returns the number of saves skipped by {@link #saveAddressBookIfChanged} because nothing had changed.
+     */
+    long getSkippedSaveCount();
+
 }
@@ -17,8 +17,12 @@ import seedu.address.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long NO_SAVED_VERSION = -1;
+
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private long lastSavedVersion = NO_SAVED_VERSION;
+    private long skippedSaveCount;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -75,4 +79,28 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public boolean saveAddressBookIfChanged(ReadOnlyAddressBook addressBook, long mutationVersion)
+            throws IOException {
+        if (mutationVersion == lastSavedVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged since last save, skipping save #" + skippedSaveCount);
+            return false;
+        }
+
+        saveAddressBook(addressBook);
+        lastSavedVersion = mutationVersion;
+        return true;
+    }
+
+    @Override
+    public void markAddressBookSaved(long mutationVersion) {
+        lastSavedVersion = mutationVersion;
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -121,6 +122,9 @@ public class MainWindow extends UiPart<Stage> {
         javafx.scene.layout.VBox.setVgrow(resultDisplayPlaceholder, javafx.scene.layout.Priority.ALWAYS);
         StackPane.setAlignment(resultDisplayPlaceholder, javafx.geometry.Pos.CENTER);
 
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        logic.setExportStatusHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+
         statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
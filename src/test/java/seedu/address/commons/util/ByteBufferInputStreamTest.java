@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void constructor_nullBuffer_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ByteBufferInputStream(null));
+    }
+
+    @Test
+    public void read_singleBytes_unsignedValuesThenEndOfStream() {
+        ByteBufferInputStream in = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] {1, (byte) 0xFF}));
+        assertEquals(2, in.available());
+        assertEquals(1, in.read());
+        assertEquals(0xFF, in.read());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void read_intoArray_readsAtMostRemaining() {
+        ByteBufferInputStream in = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5}));
+        byte[] bytes = new byte[4];
+
+        assertEquals(1, in.skip(1));
+        assertEquals(4, in.read(bytes, 0, 4));
+        assertArrayEquals(new byte[] {2, 3, 4, 5}, bytes);
+        assertEquals(0, in.read(bytes, 0, 0));
+        assertEquals(-1, in.read(bytes, 0, 4));
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_plainFields_split() throws Exception {
+        assertEquals(List.of("a", "b c", ""), CsvUtil.parseLine("a,b c,"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unquoted() throws Exception {
+        assertEquals(List.of("1, Main St", "say \"hi\"", "x"),
+                CsvUtil.parseLine("\"1, Main St\",\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () -> CsvUtil.parseLine("\"a,b"));
+    }
+
+    @Test
+    public void parseLine_textAfterQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void toLine_fieldsNeedingQuotes_roundTrip() throws Exception {
+        List<String> fields = List.of("plain", "1, Main St", "say \"hi\"", " padded ", "");
+        String line = CsvUtil.toLine(fields);
+        assertEquals("plain,\"1, Main St\",\"say \"\"hi\"\"\",\" padded \",", line);
+        assertEquals(fields, CsvUtil.parseLine(line));
+    }
+
+}
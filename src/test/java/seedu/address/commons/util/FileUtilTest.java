@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,29 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceAtomically_existingTarget_targetReplaced() throws Exception {
+        Path target = testFolder.resolve("data.json");
+        Path source = FileUtil.getTempFilePath(target);
+        Files.writeString(target, "old");
+        Files.writeString(source, "new");
+
+        FileUtil.replaceAtomically(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("new", Files.readString(target));
+    }
+
+    @Test
+    public void openReadBuffer_aboveThreshold_contentMatches() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Files.writeString(file, "{ \"persons\": [] }");
+
+        ByteBuffer mapped = FileUtil.openReadBuffer(file, 0);
+        ByteBuffer copied = FileUtil.openReadBuffer(file, Long.MAX_VALUE);
+        assertEquals(ByteBuffer.wrap(Files.readAllBytes(file)), mapped);
+        assertEquals(ByteBuffer.wrap(Files.readAllBytes(file)), copied);
+        assertTrue(mapped.isReadOnly());
+        assertTrue(copied.isReadOnly());
+    }
+
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.NaturalOrderComparator.NATURAL_ORDER_COMPARATOR;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NaturalOrderComparatorTest {
+
+    private static final List<String> SAMPLES = List.of("", "a", "A", "ab", "a07", "a7", "a7x", "a10", "4th", "10th",
+            "007", "0", "00", "Block 9", "Block 10", "block 10a", "#08-111", "#8-11", "9123456789012345678",
+            "9123456789012345679", "91234567", "a-b", "a b", "z");
+
+    @Test
+    public void compare_numbers_comparedByValue() {
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("4th", "10th") < 0);
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("Block 9", "block 10") < 0);
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("a7", "a07") < 0);
+    }
+
+    @Test
+    public void compare_numbersLongerThanInt_doesNotOverflow() {
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("9123456789012345678", "9123456789012345679") < 0);
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("91234567", "9123456789012345678") < 0);
+    }
+
+    @Test
+    public void compare_prefixOfOther_shorterFirst() {
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("ab", "abc") < 0);
+        assertTrue(NATURAL_ORDER_COMPARATOR.compare("a07", "a7x") < 0);
+    }
+
+    @Test
+    public void toCollationKey_agreesWithCompare() {
+        for (String first : SAMPLES) {
+            for (String second : SAMPLES) {
+                int cmp = NaturalOrderComparator.toCollationKey(first)
+                        .compareTo(NaturalOrderComparator.toCollationKey(second));
+                if (cmp == 0) {
+                    cmp = Integer.compare(first.length(), second.length());
+                }
+                assertEquals(Integer.signum(NATURAL_ORDER_COMPARATOR.compare(first, second)), Integer.signum(cmp),
+                        first + " vs " + second);
+            }
+        }
+    }
+}
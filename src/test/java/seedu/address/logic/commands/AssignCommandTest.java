@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.testutil.PersonBuilder;
+
+public class AssignCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AssignCommand(0));
+    }
+
+    @Test
+    public void execute_oneBeneficiaryEach_pairsShown() throws Exception {
+        CommandResult result = new AssignCommand(1).execute(model);
+
+        // one of the Clementi beneficiaries has to go to the volunteer in Jurong West, 17 minutes away
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(AssignCommand.MESSAGE_SUCCESS,
+                3, 3, 3, 17, 17)));
+        assertEquals(AssignCommand.SORT_STATUS, result.getSortStatusText());
+
+        List<Person> displayed = model.getDisplayList();
+        assertEquals(6, displayed.size());
+        for (int i = 0; i < displayed.size(); i += 2) {
+            assertEquals(Role.VOLUNTEER, displayed.get(i).getRole());
+            assertEquals(Role.BENEFICIARY, displayed.get(i + 1).getRole());
+        }
+    }
+
+    @Test
+    public void execute_twoBeneficiariesEach_sameRegionPairs() throws Exception {
+        CommandResult result = new AssignCommand(2).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(AssignCommand.MESSAGE_SUCCESS,
+                3, 3, 2, 0, 0)));
+        assertEquals(List.of(BENSON, FIONA, GEORGE, CARL, ELLE), model.getDisplayList());
+    }
+
+    @Test
+    public void execute_notEnoughVolunteers_unassignedReported() throws Exception {
+        model.updateDisplayList(person -> person.equals(BENSON) || person.getRole() == Role.BENEFICIARY);
+
+        CommandResult result = new AssignCommand(1).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains(String.format(AssignCommand.MESSAGE_UNASSIGNED, 2, 1)));
+        assertEquals(List.of(BENSON, FIONA), model.getDisplayList());
+    }
+
+    @Test
+    public void execute_manyPairs_listedPairsCapped() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int pairCount = AssignCommand.MAX_LISTED_VOLUNTEERS + 10;
+        for (int i = 0; i < pairCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Volunteer " + i).withTags("volunteer").build());
+            addressBook.addPerson(new PersonBuilder().withName("Beneficiary " + i).withTags("beneficiary").build());
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        String feedback = new AssignCommand(1).execute(model).getFeedbackToUser();
+
+        assertEquals(AssignCommand.MAX_LISTED_VOLUNTEERS, feedback.split("\n• ", -1).length - 1);
+        assertTrue(feedback.endsWith(String.format(AssignCommand.MESSAGE_MORE_PAIRS, 10)));
+        assertEquals(pairCount * 2, model.getDisplayList().size());
+    }
+
+    @Test
+    public void execute_noBeneficiaries_throwsCommandException() {
+        model.updateDisplayList(person -> person.getRole() == Role.VOLUNTEER);
+        assertCommandFailure(new AssignCommand(1), model, AssignCommand.MESSAGE_NO_PERSONS);
+    }
+
+    @Test
+    public void equals() {
+        AssignCommand assignCommand = new AssignCommand(2);
+
+        assertTrue(assignCommand.equals(assignCommand));
+        assertTrue(assignCommand.equals(new AssignCommand(2)));
+        assertFalse(assignCommand.equals(new AssignCommand(3)));
+        assertFalse(assignCommand.equals(null));
+        assertFalse(assignCommand.equals(new ClearCommand()));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.ClosestCommand.PREDICATE_SHOW_ALL_BENEFICIARY;
 import static seedu.address.logic.commands.ClosestCommand.PREDICATE_SHOW_ALL_VOLUNTEERS;
@@ -10,6 +11,8 @@ import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,12 +20,15 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Region;
+import seedu.address.model.person.Role;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class ClosestCommandTest {
 
@@ -107,6 +113,85 @@ public class ClosestCommandTest {
         }
     }
 
+    @Test
+    public void execute_withCount_showsOnlyClosest() {
+        Index targetIndex = Index.fromZeroBased(3);
+        String regionName = DANIEL.getRegion().value.getDisplayName();
+        List<Person> closest = model.getClosestPersons(DANIEL, Role.BENEFICIARY, 2);
+        String expectedMessage = String.format(ClosestCommand.MESSAGE_CLOSEST_COUNT, 2, "beneficiary", regionName);
+
+        ClosestCommand command = new ClosestCommand(targetIndex, 2);
+        expectedModel.updateDisplayList(ClosestCommand.createClosestComparator(DANIEL));
+        expectedModel.updateDisplayList(closest::contains);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(closest, model.getDisplayList());
+    }
+
+    @Test
+    public void execute_byLocation_nearestFirstThenUnlocated() {
+        Person volunteer = new PersonBuilder().withName("Vera").withPhone("90000001").withRegion("Bedok")
+                .withCoordinates(1.3240, 103.9300).withTags("volunteer").build();
+        // the far beneficiary shares the region of the volunteer, and the near one is just across the border
+        Person far = new PersonBuilder().withName("Far").withPhone("90000002").withRegion("Bedok")
+                .withCoordinates(1.3330, 103.9600).withTags("beneficiary").build();
+        Person near = new PersonBuilder().withName("Near").withPhone("90000003").withRegion("Tampines")
+                .withCoordinates(1.3250, 103.9310).withTags("beneficiary").build();
+        Person unlocated = new PersonBuilder().withName("Unlocated").withPhone("90000004").withRegion("Bedok")
+                .withTags("beneficiary").build();
+        AddressBook addressBook = new AddressBook();
+        List.of(volunteer, far, near, unlocated).forEach(addressBook::addPerson);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = assertDoesNotThrowCommand(
+                new ClosestCommand(Index.fromOneBased(1), OptionalInt.empty(), true), model);
+        assertEquals(String.format(ClosestCommand.MESSAGE_NEAREST, 3, "beneficiary", "Vera"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(near, far, unlocated), model.getDisplayList());
+
+        model = new ModelManager(addressBook, new UserPrefs());
+        assertDoesNotThrowCommand(new ClosestCommand(Index.fromOneBased(1), OptionalInt.of(1), true), model);
+        assertEquals(List.of(near), model.getDisplayList());
+    }
+
+    @Test
+    public void execute_byLocationAnchorNotLocated_sortedByRegion() {
+        Index targetIndex = Index.fromZeroBased(3);
+        List<Person> closest = model.getClosestPersons(DANIEL, Role.BENEFICIARY, 2);
+
+        CommandResult result = assertDoesNotThrowCommand(
+                new ClosestCommand(targetIndex, OptionalInt.of(2), true), model);
+        assertEquals(String.format(ClosestCommand.MESSAGE_NEAREST, 2, "beneficiary", DANIEL.getName().fullName)
+                + String.format(ClosestCommand.MESSAGE_ANCHOR_NOT_LOCATED, DANIEL.getName().fullName, "beneficiary"),
+                result.getFeedbackToUser());
+        assertEquals(closest, model.getDisplayList());
+    }
+
+    private static CommandResult assertDoesNotThrowCommand(ClosestCommand command, Model model) {
+        try {
+            return command.execute(model);
+        } catch (CommandException ce) {
+            throw new AssertionError("Execution of command should not fail.", ce);
+        }
+    }
+
+    @Test
+    public void equals() {
+        ClosestCommand closestFirstCommand = new ClosestCommand(Index.fromOneBased(1));
+        ClosestCommand closestFirstWithCountCommand = new ClosestCommand(Index.fromOneBased(1), 3);
+
+        assertTrue(closestFirstCommand.equals(new ClosestCommand(Index.fromOneBased(1))));
+        assertTrue(closestFirstWithCountCommand.equals(new ClosestCommand(Index.fromOneBased(1), 3)));
+        assertFalse(closestFirstCommand.equals(closestFirstWithCountCommand));
+        assertFalse(closestFirstWithCountCommand.equals(new ClosestCommand(Index.fromOneBased(1), 4)));
+        assertFalse(closestFirstCommand.equals(new ClosestCommand(Index.fromOneBased(2))));
+        assertTrue(closestFirstWithCountCommand.equals(
+                new ClosestCommand(Index.fromOneBased(1), OptionalInt.of(3), false)));
+        assertFalse(closestFirstWithCountCommand.equals(
+                new ClosestCommand(Index.fromOneBased(1), OptionalInt.of(3), true)));
+        assertFalse(closestFirstCommand.equals(null));
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         Index outOfBoundsIndex = Index.fromOneBased(model.getDisplayList().size() + 1);
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.testutil.PersonBuilder;
+
+public class CoverageCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_everyRegionCovered_beneficiariesShownByRegion() throws Exception {
+        // the displayed list does not limit the report
+        model.updateDisplayList(person -> person.getRole() == Role.VOLUNTEER);
+
+        CommandResult result = new CoverageCommand().execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(CoverageCommand.MESSAGE_SUCCESS, 0, 3,
+                "0 minutes")));
+        assertTrue(result.getFeedbackToUser().contains(String.format(CoverageCommand.MESSAGE_REGION, "Clementi", 1, 2,
+                "0 minutes")));
+        assertEquals(CoverageCommand.SORT_STATUS, result.getSortStatusText());
+        assertEquals(List.of(FIONA, GEORGE, ELLE), model.getDisplayList());
+    }
+
+    @Test
+    public void execute_gaps_furthestBeneficiaryFirst() throws Exception {
+        Person volunteer = new PersonBuilder().withName("Vera").withPhone("90000001").withRegion("Woodlands")
+                .withTags("volunteer").build();
+        Person covered = new PersonBuilder().withName("Covered").withPhone("90000002").withRegion("Woodlands")
+                .withTags("beneficiary").build();
+        Person near = new PersonBuilder().withName("Near").withPhone("90000003").withRegion("Sembawang")
+                .withTags("beneficiary").build();
+        AddressBook addressBook = new AddressBook();
+        List.of(volunteer, covered, near).forEach(addressBook::addPerson);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new CoverageCommand().execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(CoverageCommand.MESSAGE_SUCCESS, 1, 2,
+                "8 minutes")));
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(CoverageCommand.MESSAGE_REGION, "Sembawang", 0,
+                1, "8 minutes") + String.format(CoverageCommand.MESSAGE_REGION, "Woodlands", 1, 1, "0 minutes")));
+        assertEquals(List.of(near, covered), model.getDisplayList());
+    }
+
+    @Test
+    public void execute_noVolunteers_noVolunteerReachable() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ELLE);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new CoverageCommand().execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(CoverageCommand.MESSAGE_SUCCESS, 1, 1,
+                CoverageCommand.NO_VOLUNTEER_GAP)));
+        assertEquals(List.of(ELLE), model.getDisplayList());
+    }
+
+    @Test
+    public void execute_noBeneficiaries_throwsCommandException() {
+        assertCommandFailure(new CoverageCommand(), new ModelManager(), CoverageCommand.MESSAGE_NO_BENEFICIARIES);
+    }
+}
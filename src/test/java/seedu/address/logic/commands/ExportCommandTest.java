@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class ExportCommandTest {
+
+    private static final Path FILE_PATH = Path.of("exports", "volunteers.csv");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, ExportFormat.CSV));
+    }
+
+    @Test
+    public void execute_filteredAndSortedList_displayedOrderExported() {
+        Comparator<Person> byNameDescending = Comparator.comparing(Person::toString).reversed();
+        model.updateDisplayList(person -> person.getName().fullName.contains("e"));
+        model.updateDisplayList(byNameDescending);
+        expectedModel.updateDisplayList(person -> person.getName().fullName.contains("e"));
+        expectedModel.updateDisplayList(byNameDescending);
+        List<Person> displayed = new ArrayList<>(model.getDisplayList());
+
+        CommandResult expectedResult = new CommandResult(
+                String.format(ExportCommand.MESSAGE_STARTED, displayed.size(), FILE_PATH),
+                new ExportRequest(displayed, FILE_PATH, ExportFormat.CSV));
+        assertCommandSuccess(new ExportCommand(FILE_PATH, ExportFormat.CSV), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyDisplayList_throwsCommandException() {
+        model.updateDisplayList(unused -> false);
+        assertCommandFailure(new ExportCommand(FILE_PATH, ExportFormat.CSV), model, ExportCommand.MESSAGE_NO_PERSONS);
+    }
+
+    @Test
+    public void execute_dataFileOrItsSiblings_throwsCommandException() {
+        Path dataFilePath = model.getAddressBookFilePath();
+        String expectedMessage = String.format(ExportCommand.MESSAGE_DATA_FILE, dataFilePath);
+        assertCommandFailure(new ExportCommand(dataFilePath, ExportFormat.JSON), model, expectedMessage);
+        assertCommandFailure(new ExportCommand(dataFilePath.toAbsolutePath(), ExportFormat.JSON), model,
+                expectedMessage);
+        for (String suffix : new String[] {".tmp", ".journal", ".journal.compacting"}) {
+            Path siblingPath = dataFilePath.resolveSibling(dataFilePath.getFileName() + suffix);
+            assertCommandFailure(new ExportCommand(siblingPath, ExportFormat.CSV), model, expectedMessage);
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsvCommand = new ExportCommand(FILE_PATH, ExportFormat.CSV);
+
+        assertTrue(exportCsvCommand.equals(exportCsvCommand));
+        assertTrue(exportCsvCommand.equals(new ExportCommand(FILE_PATH, ExportFormat.CSV)));
+        assertFalse(exportCsvCommand.equals(1));
+        assertFalse(exportCsvCommand.equals(null));
+        assertFalse(exportCsvCommand.equals(new ExportCommand(FILE_PATH, ExportFormat.JSON)));
+        assertFalse(exportCsvCommand.equals(new ExportCommand(Path.of("other.csv"), ExportFormat.CSV)));
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ImportFileParser;
+import seedu.address.logic.parser.PersonRecord;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private static String toCsvLine(Person person) {
+        return CsvUtil.toLine(Arrays.asList(person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value, person.getRegion().toString(),
+                person.getCoordinates().map(coordinates -> String.valueOf(coordinates.latitude)).orElse(""),
+                person.getCoordinates().map(coordinates -> String.valueOf(coordinates.longitude)).orElse(""),
+                person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(" "))));
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        List<String> allLines = new ArrayList<>();
+        allLines.add(String.join(",", CsvUtil.PERSON_COLUMNS));
+        allLines.addAll(Arrays.asList(lines));
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, allLines, StandardCharsets.UTF_8);
+        return filePath;
+    }
+
+    private Model getExpectedModel(Person... added) {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(added));
+        expectedModel.updateDisplayList(PREDICATE_SHOW_ALL_PERSONS);
+        return expectedModel;
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_csvFile_personsAdded() throws Exception {
+        Path filePath = writeCsv(toCsvLine(HOON), "", toCsvLine(IDA));
+        CommandResult expectedResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), false, false, null, "");
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedResult, getExpectedModel(HOON, IDA));
+    }
+
+    @Test
+    public void execute_csvColumnsReordered_personsAdded() throws Exception {
+        Path filePath = testFolder.resolve("reordered.csv");
+        Files.write(filePath, List.of("Tags,Region,Address,Email,Phone,Name",
+                "beneficiary,Clementi,little india,stefan@example.com,8482424,Hoon Meier"), StandardCharsets.UTF_8);
+        CommandResult expectedResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), false, false, null, "");
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedResult, getExpectedModel(HOON));
+    }
+
+    @Test
+    public void execute_blankRegion_regionInferredFromPostalCode() throws Exception {
+        Path filePath = testFolder.resolve("postal.csv");
+        Files.write(filePath, List.of("name,phone,email,address,region,tags",
+                "Hoon Meier,8482424,stefan@example.com,\"2 Bedok North Ave 1, 460002\",,beneficiary"),
+                StandardCharsets.UTF_8);
+        Person expectedPerson = new PersonBuilder(HOON).withAddress("2 Bedok North Ave 1, 460002")
+                .withRegion("Bedok").withCoordinates(1.324, 103.93).build();
+        CommandResult expectedResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), false, false, null, "");
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedResult, getExpectedModel(expectedPerson));
+    }
+
+    @Test
+    public void execute_jsonFile_personsAdded() throws Exception {
+        Path filePath = testFolder.resolve("persons.json");
+        Files.writeString(filePath, "{ \"persons\": [\n"
+                + "{ \"name\": \"Hoon Meier\", \"phone\": \"8482424\", \"email\": \"stefan@example.com\",\n"
+                + "  \"address\": \"little india\", \"region\": \"Clementi\", \"tags\": [ \"beneficiary\" ] },\n"
+                + "{ \"name\": \"Ida Mueller\", \"phone\": \"8482131\", \"email\": \"hans@example.com\",\n"
+                + "  \"address\": \"chicago ave\", \"region\": \"Clementi\", \"tags\": [ \"beneficiary\" ] } ] }");
+        CommandResult expectedResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), false, false, null, "");
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedResult, getExpectedModel(HOON, IDA));
+    }
+
+    @Test
+    public void execute_csvCoordinates_personsPlacedThere() throws Exception {
+        Person locatedHoon = new PersonBuilder(HOON).withCoordinates(1.3, 103.8).build();
+        Path filePath = writeCsv(toCsvLine(locatedHoon));
+        CommandResult expectedResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), false, false, null, "");
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedResult, getExpectedModel(locatedHoon));
+    }
+
+    @Test
+    public void execute_jsonCoordinates_personsPlacedThere() throws Exception {
+        Path filePath = testFolder.resolve("located.json");
+        Files.writeString(filePath, "[ { \"name\": \"Hoon Meier\", \"phone\": \"8482424\", "
+                + "\"email\": \"stefan@example.com\", \"address\": \"little india\", \"region\": \"Clementi\", "
+                + "\"latitude\": 1.3, \"longitude\": 103.8, \"tags\": [ \"beneficiary\" ] } ]");
+        Person locatedHoon = new PersonBuilder(HOON).withCoordinates(1.3, 103.8).build();
+        CommandResult expectedResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), false, false, null, "");
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedResult, getExpectedModel(locatedHoon));
+    }
+
+    @Test
+    public void execute_latitudeWithoutLongitude_nothingImported() throws Exception {
+        String latitudeOnlyLine = toCsvLine(new PersonBuilder(HOON).withCoordinates(1.3, 103.8).build())
+                .replace("103.8", "");
+        Path filePath = writeCsv(latitudeOnlyLine);
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_INVALID_RECORDS,
+                1, filePath, String.format(ImportCommand.MESSAGE_RECORD_ERROR, 2,
+                        String.format(PersonRecord.MESSAGE_MISSING_FIELD, "longitude"))));
+    }
+
+    @Test
+    public void execute_invalidRecords_nothingImported() throws Exception {
+        String invalidPhoneLine = toCsvLine(IDA).replace(IDA.getPhone().value, "12");
+        Path filePath = writeCsv(toCsvLine(HOON), toCsvLine(ALICE), toCsvLine(HOON), invalidPhoneLine, "\"broken");
+        String expectedMessage = String.format(ImportCommand.MESSAGE_INVALID_RECORDS, 4, filePath,
+                String.format(ImportCommand.MESSAGE_RECORD_ERROR, 3, ImportCommand.MESSAGE_EXISTING_PERSON) + "\n"
+                + String.format(ImportCommand.MESSAGE_RECORD_ERROR, 4, ImportCommand.MESSAGE_REPEATED_PERSON) + "\n"
+                + String.format(ImportCommand.MESSAGE_RECORD_ERROR, 5, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportCommand.MESSAGE_RECORD_ERROR, 6, CsvUtil.MESSAGE_UNTERMINATED_QUOTE));
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_manyInvalidRecords_errorsTruncated() throws Exception {
+        String[] lines = new String[ImportCommand.MAX_REPORTED_ERRORS + 5];
+        Arrays.fill(lines, "\"broken");
+        Path filePath = writeCsv(lines);
+        StringBuilder expectedErrors = new StringBuilder();
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS; i++) {
+            expectedErrors.append(String.format(ImportCommand.MESSAGE_RECORD_ERROR, i + 2,
+                    CsvUtil.MESSAGE_UNTERMINATED_QUOTE)).append("\n");
+        }
+        expectedErrors.append(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5));
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_INVALID_RECORDS,
+                lines.length, filePath, expectedErrors));
+    }
+
+    @Test
+    public void execute_headerOnly_throwsCommandException() throws Exception {
+        Path filePath = writeCsv();
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_NO_PERSONS, filePath));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("missing.csv");
+        Files.write(filePath, List.of("name,phone,email,address,tags"), StandardCharsets.UTF_8);
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_READ_FAILED,
+                filePath, String.format(ImportFileParser.MESSAGE_MISSING_COLUMN, "region")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new ImportCommand(testFolder.resolve("none.csv")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Path.of("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Path.of("second.json"));
+
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+        assertTrue(importFirstCommand.equals(new ImportCommand(Path.of("first.csv"))));
+        assertFalse(importFirstCommand.equals(1));
+        assertFalse(importFirstCommand.equals(null));
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+}
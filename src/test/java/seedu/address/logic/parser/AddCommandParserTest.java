@@ -25,9 +25,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_REGION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BENEFICIARY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_OWESMONEY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -40,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -163,6 +166,40 @@ public class AddCommandParserTest {
                 expectedMessage);
     }
 
+    @Test
+    public void parse_regionMissing_inferredFromPostalCode() {
+        String address = "Blk 888 Woodlands Dr 50, Singapore 730888";
+        Person expectedPerson = new PersonBuilder(BOB).withAddress(address).withRegion("Woodlands")
+                .withCoordinates(1.436, 103.786).withTags(VALID_TAG_BENEFICIARY).build();
+        assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + " " + PREFIX_ADDRESS + address
+                + TAG_DESC_BENEFICIARY, new AddCommand(expectedPerson));
+
+        // a region that is given is kept, even if the postal code is elsewhere
+        expectedPerson = new PersonBuilder(expectedPerson).withRegion(VALID_REGION_BOB).build();
+        assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + " " + PREFIX_ADDRESS + address
+                + REGION_DESC_BOB + TAG_DESC_BENEFICIARY, new AddCommand(expectedPerson));
+    }
+
+    @Test
+    public void parse_coordinatesGiven_keptOverPostalCode() {
+        String address = "Blk 888 Woodlands Dr 50, Singapore 730888";
+        Person expectedPerson = new PersonBuilder(BOB).withAddress(address).withRegion("Woodlands")
+                .withCoordinates(1.4375, 103.7861).withTags(VALID_TAG_BENEFICIARY).build();
+        assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + " " + PREFIX_ADDRESS + address
+                + " " + PREFIX_COORDINATES + "1.4375,103.7861" + TAG_DESC_BENEFICIARY, new AddCommand(expectedPerson));
+
+        // invalid coordinates
+        assertParseFailure(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB
+                + REGION_DESC_BOB + " " + PREFIX_COORDINATES + "91,103.8" + TAG_DESC_BENEFICIARY,
+                Coordinates.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_regionMissingWithoutPostalCode_failure() {
+        assertParseFailure(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB
+                + TAG_DESC_BENEFICIARY, ParserUtil.MESSAGE_REGION_NOT_INFERRED);
+    }
+
     @Test
     public void parse_invalidValue_failure() {
         // invalid name
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -16,16 +17,21 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.ExportFormat;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AssignCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClosestCommand;
+import seedu.address.logic.commands.CoverageCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ChainedPredicate;
@@ -91,6 +97,31 @@ public class AddressBookParserTest {
                 command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " persons.csv");
+        assertEquals(new ImportCommand(Paths.get("persons.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " persons.vcf");
+        assertEquals(new ExportCommand(Paths.get("persons.vcf"), ExportFormat.VCARD), command);
+    }
+
+    @Test
+    public void parseCommand_assign() throws Exception {
+        assertEquals(new AssignCommand(AssignCommand.DEFAULT_CAPACITY),
+                parser.parseCommand(AssignCommand.COMMAND_WORD));
+        assertEquals(new AssignCommand(4), parser.parseCommand(AssignCommand.COMMAND_WORD + " c/4"));
+    }
+
+    @Test
+    public void parseCommand_coverage() throws Exception {
+        assertTrue(parser.parseCommand(CoverageCommand.COMMAND_WORD) instanceof CoverageCommand);
+        assertTrue(parser.parseCommand(CoverageCommand.COMMAND_WORD + " 3") instanceof CoverageCommand);
+    }
+
     @Test
     public void parseCommand_closest() throws Exception {
         ClosestCommand command = (ClosestCommand) parser.parseCommand(
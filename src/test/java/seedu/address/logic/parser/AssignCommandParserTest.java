@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AssignCommand;
+
+public class AssignCommandParserTest {
+
+    private AssignCommandParser parser = new AssignCommandParser();
+
+    @Test
+    public void parse_noCapacity_defaultCapacity() {
+        assertParseSuccess(parser, "", new AssignCommand(AssignCommand.DEFAULT_CAPACITY));
+        assertParseSuccess(parser, "   ", new AssignCommand(AssignCommand.DEFAULT_CAPACITY));
+    }
+
+    @Test
+    public void parse_validCapacity_success() {
+        assertParseSuccess(parser, " c/3", new AssignCommand(3));
+        assertParseSuccess(parser, "  c/ 12 ", new AssignCommand(12));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "3", String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " c/0", AssignCommandParser.MESSAGE_INVALID_CAPACITY);
+        assertParseFailure(parser, " c/-1", AssignCommandParser.MESSAGE_INVALID_CAPACITY);
+        assertParseFailure(parser, " c/many", AssignCommandParser.MESSAGE_INVALID_CAPACITY);
+        assertParseFailure(parser, " c/1 c/2", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_CAPACITY));
+    }
+}
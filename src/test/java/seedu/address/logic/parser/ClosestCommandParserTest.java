@@ -1,13 +1,18 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.util.OptionalInt;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.ClosestCommand;
 
 /**
@@ -48,4 +53,37 @@ public class ClosestCommandParserTest {
         // other valid index
         assertParseSuccess(parser, "2", new ClosestCommand(INDEX_SECOND_PERSON));
     }
+
+    @Test
+    public void parse_validCount_success() {
+        assertParseSuccess(parser, "1 k/3", new ClosestCommand(INDEX_FIRST_PERSON, 3));
+        assertParseSuccess(parser, " 2  k/ 10 ", new ClosestCommand(INDEX_SECOND_PERSON, 10));
+    }
+
+    @Test
+    public void parse_invalidCount_failure() {
+        assertParseFailure(parser, "1 k/0", ClosestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "1 k/-2", ClosestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "1 k/two", ClosestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "1 k/", ClosestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "1 k/2 k/3", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_COUNT));
+        assertParseFailure(parser, "k/2", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validMode_success() {
+        assertParseSuccess(parser, "1 m/location",
+                new ClosestCommand(INDEX_FIRST_PERSON, OptionalInt.empty(), true));
+        assertParseSuccess(parser, "1 k/3 m/ Location ",
+                new ClosestCommand(INDEX_FIRST_PERSON, OptionalInt.of(3), true));
+        assertParseSuccess(parser, "2 m/region", new ClosestCommand(INDEX_SECOND_PERSON));
+        assertParseSuccess(parser, "2 m/region k/4", new ClosestCommand(INDEX_SECOND_PERSON, 4));
+    }
+
+    @Test
+    public void parse_invalidMode_failure() {
+        assertParseFailure(parser, "1 m/", ClosestCommandParser.MESSAGE_INVALID_MODE);
+        assertParseFailure(parser, "1 m/distance", ClosestCommandParser.MESSAGE_INVALID_MODE);
+        assertParseFailure(parser, "1 m/region m/location", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_MODE));
+    }
 }
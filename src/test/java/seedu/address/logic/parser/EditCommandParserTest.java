@@ -24,8 +24,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BENEFICIARY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_VOLUNTEER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -40,6 +42,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -170,6 +173,32 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_addressWithPostalCode_regionInferred() {
+        Index targetIndex = INDEX_FIRST_PERSON;
+        String address = "10 Tampines Central 1, Singapore 529536";
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_ADDRESS + address;
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withAddress(address)
+                .withRegion("Tampines").build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+
+        // a region that is given is kept
+        userInput = targetIndex.getOneBased() + " " + PREFIX_ADDRESS + address + " " + PREFIX_REGION + "Bedok";
+        descriptor = new EditPersonDescriptorBuilder().withAddress(address).withRegion("Bedok").build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+    }
+
+    @Test
+    public void parse_coordinates_success() {
+        Index targetIndex = INDEX_FIRST_PERSON;
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_COORDINATES + "1.3521,103.8198";
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withCoordinates(1.3521, 103.8198).build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+
+        assertParseFailure(parser, targetIndex.getOneBased() + " " + PREFIX_COORDINATES + "1.3521",
+                Coordinates.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_multipleRepeatedFields_failure() {
         // More extensive testing of duplicate parameter detections is done in
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_supportedFile_returnsExportCommand() {
+        assertParseSuccess(parser, " out/persons.csv ",
+                new ExportCommand(Paths.get("out/persons.csv"), ExportFormat.CSV));
+        assertParseSuccess(parser, "persons.JSON", new ExportCommand(Paths.get("persons.JSON"), ExportFormat.JSON));
+        assertParseSuccess(parser, "persons.vcf", new ExportCommand(Paths.get("persons.vcf"), ExportFormat.VCARD));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "persons.txt", ExportCommand.MESSAGE_UNSUPPORTED_FILE);
+    }
+}
@@ -7,19 +7,27 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.parser.KeywordMatch;
+import seedu.address.model.person.AttributeSortOrder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StrAttrContainsKeywords;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -92,6 +100,62 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getMutationVersion_personsChanged_versionIncreases() {
+        long version = modelManager.getMutationVersion();
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getMutationVersion() > version);
+
+        version = modelManager.getMutationVersion();
+        modelManager.setPerson(ALICE, BENSON);
+        assertTrue(modelManager.getMutationVersion() > version);
+
+        version = modelManager.getMutationVersion();
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.getMutationVersion() > version);
+
+        version = modelManager.getMutationVersion();
+        modelManager.addPerson(ALICE);
+        modelManager.deletePersons(Arrays.asList(ALICE));
+        assertTrue(modelManager.getMutationVersion() > version);
+
+        version = modelManager.getMutationVersion();
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getMutationVersion() > version);
+    }
+
+    @Test
+    public void deletePersons_someMissing_nothingDeleted() {
+        modelManager.addPerson(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> modelManager.deletePersons(Arrays.asList(ALICE, BENSON)));
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getMutationVersion_displayListChanged_versionUnchanged() {
+        modelManager.addPerson(ALICE);
+        long version = modelManager.getMutationVersion();
+        modelManager.updateDisplayList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateDisplayList(Comparator.comparing(Person::toString));
+        modelManager.clearSorting();
+        assertEquals(version, modelManager.getMutationVersion());
+    }
+
+    @Test
+    public void updateDisplayList_precomputableOrderThenFilterWidened_wholeListSorted() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AttributeSortOrder byReversedName = new AttributeSortOrder(List.<Function<Person, String>>of(person ->
+                new StringBuilder(person.getName().fullName).reverse().toString()));
+        modelManager.updateDisplayList(person -> person.getName().fullName.contains("e"));
+        modelManager.updateDisplayList(byReversedName);
+
+        // persons that were filtered out when the order was computed are still sorted among the others
+        modelManager.updateDisplayList(PREDICATE_SHOW_ALL_PERSONS);
+        List<Person> expected = new ArrayList<>(getTypicalPersons());
+        expected.sort(byReversedName);
+        assertEquals(expected, modelManager.getDisplayList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
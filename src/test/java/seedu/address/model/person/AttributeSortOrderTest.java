@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeSortOrderTest {
+
+    private static final AttributeSortOrder ROLE_THEN_NAME =
+            new AttributeSortOrder(List.of(Person.ROLE_TAG_STR_GETTER, Person.NAME_STR_GETTER));
+
+    @Test
+    public void constructor_noAttributes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttributeSortOrder(List.of()));
+    }
+
+    @Test
+    public void compare_firstAttributeEqual_comparesNextAttribute() {
+        Person aliceBeneficiary = new PersonBuilder(ALICE).withName("Alice Zeta").withTags("beneficiary").build();
+        Person bobBeneficiary = new PersonBuilder(ALICE).withName("Bob").withTags("beneficiary").build();
+
+        assertTrue(ROLE_THEN_NAME.compare(aliceBeneficiary, bobBeneficiary) < 0);
+        assertTrue(ROLE_THEN_NAME.compare(bobBeneficiary, ALICE) < 0);
+        assertEquals(0, ROLE_THEN_NAME.compare(ALICE, new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void withPrecomputedOrder_typicalPersons_sameOrderAsCompare() {
+        assertSameOrder(getTypicalPersons());
+    }
+
+    @Test
+    public void withPrecomputedOrder_manyPersons_sameOrderAsCompare() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = AttributeSortOrder.PARALLEL_SORT_THRESHOLD + 100; i > 0; i--) {
+            persons.add(new PersonBuilder().withName("Person " + (i % 500)).withPhone(String.valueOf(90000000 + i))
+                    .withTags(i % 3 == 0 ? "beneficiary" : "volunteer").build());
+        }
+        assertSameOrder(persons);
+    }
+
+    @Test
+    public void withPrecomputedOrder_personNotInList_comparedByAttributes() {
+        Comparator<Person> precomputed = ROLE_THEN_NAME.withPrecomputedOrder(getTypicalPersons());
+        Person beneficiary = new PersonBuilder(ALICE).withName("Aaron").withTags("beneficiary").build();
+
+        for (Person person : getTypicalPersons()) {
+            assertEquals(Integer.signum(ROLE_THEN_NAME.compare(beneficiary, person)),
+                    Integer.signum(precomputed.compare(beneficiary, person)));
+        }
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(ROLE_THEN_NAME.equals(ROLE_THEN_NAME));
+        assertTrue(ROLE_THEN_NAME.equals(
+                new AttributeSortOrder(List.of(Person.ROLE_TAG_STR_GETTER, Person.NAME_STR_GETTER))));
+        assertFalse(ROLE_THEN_NAME.equals(
+                new AttributeSortOrder(List.of(Person.NAME_STR_GETTER, Person.ROLE_TAG_STR_GETTER))));
+        assertFalse(ROLE_THEN_NAME.equals(null));
+    }
+
+    private static void assertSameOrder(List<Person> persons) {
+        Comparator<Person> precomputed = ROLE_THEN_NAME.withPrecomputedOrder(persons);
+
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(ROLE_THEN_NAME);
+        List<Person> actual = new ArrayList<>(persons);
+        actual.sort(precomputed);
+        assertEquals(expected, actual);
+    }
+}
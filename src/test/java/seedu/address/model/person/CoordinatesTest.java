@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CoordinatesTest {
+
+    @Test
+    public void constructor_invalidCoordinates_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new Coordinates(null));
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates("1.3"));
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates(90.5, 103.8));
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates(1.3, Double.NaN));
+    }
+
+    @Test
+    public void isValidCoordinates() {
+        // invalid coordinates
+        assertFalse(Coordinates.isValidCoordinates("")); // empty string
+        assertFalse(Coordinates.isValidCoordinates("1.35")); // no longitude
+        assertFalse(Coordinates.isValidCoordinates("1.35,103.8,5")); // too many parts
+        assertFalse(Coordinates.isValidCoordinates("1.35,")); // blank longitude
+        assertFalse(Coordinates.isValidCoordinates("north,103.8")); // not a number
+        assertFalse(Coordinates.isValidCoordinates("-90.1,103.8")); // latitude out of range
+        assertFalse(Coordinates.isValidCoordinates("1.35,180.5")); // longitude out of range
+        assertFalse(Coordinates.isValidCoordinates("NaN,103.8"));
+
+        // valid coordinates
+        assertTrue(Coordinates.isValidCoordinates("1.3521,103.8198"));
+        assertTrue(Coordinates.isValidCoordinates(" 1.3521 , 103.8198 "));
+        assertTrue(Coordinates.isValidCoordinates("-90,180"));
+        assertTrue(Coordinates.isValidCoordinates("0,-180"));
+    }
+
+    @Test
+    public void distanceTo() {
+        Coordinates origin = new Coordinates(1.3521, 103.8198);
+        assertEquals(0, origin.distanceTo(origin), 1e-9);
+
+        // one degree of latitude is about 111.2 km anywhere
+        assertEquals(111.2, new Coordinates(0, 103).distanceTo(new Coordinates(1, 103)), 0.1);
+
+        // Changi Airport to Jurong East is about 28 km
+        Coordinates changi = new Coordinates(1.3644, 103.9915);
+        Coordinates jurongEast = new Coordinates(1.3329, 103.7436);
+        assertEquals(27.8, changi.distanceTo(jurongEast), 0.5);
+        assertEquals(changi.distanceTo(jurongEast), jurongEast.distanceTo(changi), 1e-9);
+
+        // antipodes are half the circumference apart
+        assertEquals(Math.PI * Coordinates.EARTH_RADIUS_KM,
+                new Coordinates(0, 0).distanceTo(new Coordinates(0, 180)), 1e-6);
+    }
+
+    @Test
+    public void equals() {
+        Coordinates coordinates = new Coordinates("1.3521,103.8198");
+
+        assertTrue(coordinates.equals(new Coordinates(1.3521, 103.8198)));
+        assertTrue(coordinates.equals(coordinates));
+        assertFalse(coordinates.equals(null));
+        assertFalse(coordinates.equals(5.0f));
+        assertFalse(coordinates.equals(new Coordinates(1.3521, 103.8199)));
+        assertEquals(coordinates.hashCode(), new Coordinates(1.3521, 103.8198).hashCode());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.PersonBuilder.buildInRegion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CoverageReportTest {
+
+    private static final ValidRegion[] REGIONS = ValidRegion.values();
+
+    @Test
+    public void of_beneficiariesRankedByGap() {
+        Person volunteer = buildInRegion("Volunteer", "volunteer", ValidRegion.WOODLANDS);
+        Person woodlands = buildInRegion("Beneficiary 1", "beneficiary", ValidRegion.WOODLANDS);
+        Person changi = buildInRegion("Beneficiary 2", "beneficiary", ValidRegion.CHANGI);
+        Person sembawang = buildInRegion("Beneficiary 3", "beneficiary", ValidRegion.SEMBAWANG);
+        Person otherChangi = buildInRegion("Beneficiary 4", "beneficiary", ValidRegion.CHANGI);
+
+        CoverageReport report = CoverageReport.of(List.of(woodlands, changi, volunteer, sembawang, otherChangi));
+
+        assertEquals(List.of(changi, otherChangi, sembawang, woodlands), report.getRankedBeneficiaries());
+        assertEquals(0, report.getGap(woodlands));
+        assertEquals(8, report.getGap(sembawang));
+        assertEquals(ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.CHANGI), report.getGap(changi));
+        assertEquals(3, report.getUncoveredCount());
+        assertEquals(1, report.getVolunteerCount(ValidRegion.WOODLANDS));
+        assertEquals(1, report.getBeneficiaryCount(ValidRegion.WOODLANDS));
+        assertEquals(2, report.getBeneficiaryCount(ValidRegion.CHANGI));
+        assertEquals(0, report.getVolunteerCount(ValidRegion.CHANGI));
+        assertEquals(ValidRegion.WOODLANDS, report.getRegionsByGap().get(REGIONS.length - 1));
+    }
+
+    @Test
+    public void of_noVolunteers_noRegionCovered() {
+        Person beneficiary = buildInRegion("Beneficiary", "beneficiary", ValidRegion.BEDOK);
+
+        CoverageReport report = CoverageReport.of(List.of(beneficiary));
+
+        assertEquals(CoverageReport.NO_VOLUNTEER, report.getGap(beneficiary));
+        for (ValidRegion region : REGIONS) {
+            assertEquals(CoverageReport.NO_VOLUNTEER, report.getGap(region));
+        }
+        assertEquals(1, report.getUncoveredCount());
+        assertEquals(List.of(beneficiary), report.getRankedBeneficiaries());
+    }
+
+    @Test
+    public void of_manyPersons_gapsSameAsNearestVolunteer() {
+        Random random = new Random(25);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // volunteers only live in a few regions, so most regions have a gap
+            boolean isVolunteer = random.nextInt(10) == 0;
+            ValidRegion region = REGIONS[random.nextInt(isVolunteer ? 6 : REGIONS.length)];
+            persons.add(buildInRegion("Person " + i, isVolunteer ? "volunteer" : "beneficiary", region));
+        }
+
+        CoverageReport report = CoverageReport.of(persons);
+
+        List<Person> beneficiaries = new ArrayList<>();
+        for (ValidRegion region : REGIONS) {
+            int nearest = Integer.MAX_VALUE;
+            int volunteerCount = 0;
+            int beneficiaryCount = 0;
+            for (Person person : persons) {
+                if (person.getRole() == Role.VOLUNTEER) {
+                    nearest = Math.min(nearest, ValidRegion.getDistance(person.getRegion().value, region));
+                    volunteerCount += person.getRegion().value == region ? 1 : 0;
+                } else if (person.getRegion().value == region) {
+                    beneficiaryCount++;
+                }
+            }
+            assertEquals(nearest, report.getGap(region));
+            assertEquals(volunteerCount, report.getVolunteerCount(region));
+            assertEquals(beneficiaryCount, report.getBeneficiaryCount(region));
+        }
+        persons.stream().filter(person -> person.getRole() == Role.BENEFICIARY).forEach(beneficiaries::add);
+
+        List<Person> ranked = report.getRankedBeneficiaries();
+        assertEquals(beneficiaries.size(), ranked.size());
+        assertTrue(ranked.containsAll(beneficiaries));
+        for (int i = 0; i < ranked.size() - 1; i++) {
+            Person first = ranked.get(i);
+            Person second = ranked.get(i + 1);
+            int firstGap = report.getGap(first);
+            int secondGap = report.getGap(second);
+            String firstRegion = first.getRegion().value.getDisplayName();
+            String secondRegion = second.getRegion().value.getDisplayName();
+            boolean isGivenFirst = beneficiaries.indexOf(first) < beneficiaries.indexOf(second);
+            assertTrue(firstGap > secondGap || firstGap == secondGap && (firstRegion.compareTo(secondRegion) < 0
+                    || firstRegion.equals(secondRegion) && isGivenFirst));
+        }
+    }
+}
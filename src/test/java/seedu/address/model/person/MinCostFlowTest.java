@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MinCostFlowTest {
+
+    @Test
+    public void addEdge_negativeCost_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MinCostFlow(2).addEdge(0, 1, 1, -1));
+    }
+
+    @Test
+    public void solve_prefersCheaperPaths() {
+        // source 0, sink 3, a cheap path of capacity 2 through 1 and an expensive one of capacity 5 through 2
+        MinCostFlow network = new MinCostFlow(4);
+        int sourceToCheap = network.addEdge(0, 1, 2, 1);
+        int sourceToExpensive = network.addEdge(0, 2, 5, 4);
+        network.addEdge(1, 3, 10, 0);
+        network.addEdge(2, 3, 3, 0);
+
+        assertEquals(5, network.solve(0, 3));
+        assertEquals(2, network.getFlow(sourceToCheap));
+        assertEquals(3, network.getFlow(sourceToExpensive));
+    }
+
+    @Test
+    public void solve_reroutesFlowAlongResidualEdges() {
+        // the first shortest path 0-1-2-3 blocks both of the paths that carry the maximum flow
+        MinCostFlow network = new MinCostFlow(4);
+        int first = network.addEdge(0, 1, 1, 0);
+        network.addEdge(0, 2, 1, 2);
+        int middle = network.addEdge(1, 2, 1, 0);
+        network.addEdge(1, 3, 1, 2);
+        network.addEdge(2, 3, 1, 0);
+
+        assertEquals(2, network.solve(0, 3));
+        assertEquals(1, network.getFlow(first));
+        assertEquals(0, network.getFlow(middle));
+    }
+
+    @Test
+    public void solve_unreachableSink_noFlow() {
+        MinCostFlow network = new MinCostFlow(3);
+        int edge = network.addEdge(0, 1, 4, 1);
+        assertEquals(0, network.solve(0, 2));
+        assertEquals(0, network.getFlow(edge));
+    }
+}
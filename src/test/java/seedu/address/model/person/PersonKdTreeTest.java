@@ -0,0 +1,168 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonKdTreeTest {
+
+    private static final Coordinates CENTRE = new Coordinates(1.3521, 103.8198);
+
+    @Test
+    public void add_unlocatedPerson_throwsIllegalArgumentException() {
+        PersonKdTree tree = new PersonKdTree();
+        assertThrows(IllegalArgumentException.class, () -> tree.add(new PersonBuilder().build().withId(1)));
+    }
+
+    @Test
+    public void findNearest_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonKdTree().findNearest(CENTRE, 0));
+    }
+
+    @Test
+    public void findNearest_emptyTree_empty() {
+        assertEquals(List.of(), new PersonKdTree().findNearest(CENTRE, 3));
+    }
+
+    @Test
+    public void findNearest_samePlace_orderedById() {
+        PersonKdTree tree = new PersonKdTree();
+        Person third = located(3, 1.3, 103.8);
+        Person first = located(1, 1.3, 103.8);
+        Person second = located(2, 1.3, 103.8);
+        List.of(third, first, second).forEach(tree::add);
+
+        assertEquals(List.of(first, second, third), tree.findNearest(new Coordinates(1.3, 103.8), 5));
+        assertEquals(List.of(first, second), tree.findNearest(new Coordinates(1.4, 103.9), 2));
+    }
+
+    @Test
+    public void findNearest_randomPersons_sameAsBruteForce() {
+        Random random = new Random(24);
+        PersonKdTree tree = new PersonKdTree();
+        List<Person> persons = new ArrayList<>();
+        for (int id = 1; id <= 2000; id++) {
+            // snapping to a grid makes many persons share a coordinate along some axis
+            Person person = located(id, 1.2 + random.nextInt(300) / 1000.0, 103.6 + random.nextInt(450) / 1000.0);
+            persons.add(person);
+            tree.add(person);
+        }
+        // removing and re-adding persons triggers rebuilds and leaves removed nodes in the tree
+        for (int i = 0; i < 1500; i++) {
+            Person removed = persons.remove(random.nextInt(persons.size()));
+            tree.remove(removed);
+            if (i % 3 == 0) {
+                Person moved = located(removed.getId(), 1.2 + random.nextDouble() * 0.3,
+                        103.6 + random.nextDouble() * 0.45);
+                persons.add(moved);
+                tree.add(moved);
+            }
+        }
+        assertEquals(persons.size(), tree.size());
+
+        for (int query = 0; query < 50; query++) {
+            Coordinates origin = new Coordinates(1.2 + random.nextDouble() * 0.3, 103.6 + random.nextDouble() * 0.45);
+            List<Person> expected = sortedByDistance(persons, origin);
+            for (int count : new int[] {1, 7, 64}) {
+                assertSameDistances(origin, expected.subList(0, count), tree.findNearest(origin, count));
+            }
+        }
+        assertSameDistances(CENTRE, sortedByDistance(persons, CENTRE),
+                tree.findNearest(CENTRE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void add_sortedInsertions_staysFast() {
+        // inserting persons in order along a line would make an unbalanced tree a list
+        PersonKdTree tree = new PersonKdTree();
+        for (int id = 1; id <= 50_000; id++) {
+            tree.add(located(id, 1.2 + id * 1e-6, 103.6 + id * 1e-6));
+        }
+        for (int query = 0; query < 10_000; query++) {
+            assertEquals(1, tree.findNearest(new Coordinates(1.2 + query * 5e-6, 103.6), 1).size());
+        }
+    }
+
+    @Test
+    public void add_manyPersonsAtSectorCentres_sharedNodesStayFast() {
+        // persons placed by postal code share the coordinates of the centre of their sector
+        Coordinates woodlands = new Coordinates(1.4360, 103.7860);
+        Coordinates bedok = new Coordinates(1.3240, 103.9300);
+        PersonKdTree tree = new PersonKdTree();
+        List<Person> persons = new ArrayList<>();
+        for (int id = 1; id <= 50_000; id++) {
+            Coordinates centre = id % 10 == 0 ? bedok : woodlands;
+            Person person = located(id, centre.latitude, centre.longitude);
+            persons.add(person);
+            tree.add(person);
+        }
+        for (int query = 0; query < 1000; query++) {
+            assertEquals(List.of(persons.get(0), persons.get(1), persons.get(2)), tree.findNearest(woodlands, 3));
+        }
+        assertEquals(List.of(persons.get(9), persons.get(19)), tree.findNearest(bedok, 2));
+
+        // emptying the shared node of Bedok leaves only persons in Woodlands
+        for (int id = 10; id <= 50_000; id += 10) {
+            tree.remove(persons.get(id - 1));
+        }
+        assertEquals(45_000, tree.size());
+        assertEquals(List.of(persons.get(0)), tree.findNearest(bedok, 1));
+        assertEquals(45_000, tree.findNearest(bedok, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void addAll_manyPersons_sameAsBruteForce() {
+        Random random = new Random(2024);
+        List<Person> persons = new ArrayList<>();
+        for (int id = 1; id <= 20_000; id++) {
+            // a few sector centres hold most persons, and the rest are spread out
+            persons.add(id % 4 == 0
+                    ? located(id, 1.2 + random.nextDouble() * 0.3, 103.6 + random.nextDouble() * 0.45)
+                    : located(id, 1.3 + random.nextInt(5) / 100.0, 103.8 + random.nextInt(5) / 100.0));
+        }
+        PersonKdTree tree = new PersonKdTree();
+        tree.add(located(1, 1.25, 103.65));
+        tree.addAll(persons);
+        assertEquals(persons.size(), tree.size());
+
+        for (int query = 0; query < 20; query++) {
+            Coordinates origin = new Coordinates(1.2 + random.nextDouble() * 0.3, 103.6 + random.nextDouble() * 0.45);
+            List<Person> expected = sortedByDistance(persons, origin);
+            for (int count : new int[] {1, 50, 2000}) {
+                assertSameDistances(origin, expected.subList(0, count), tree.findNearest(origin, count));
+            }
+        }
+    }
+
+    private static List<Person> sortedByDistance(List<Person> persons, Coordinates origin) {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(Comparator.<Person>comparingDouble(person -> origin.distanceTo(person.getCoordinates().get()))
+                .thenComparingLong(Person::getId));
+        return sorted;
+    }
+
+    /**
+     * Asserts that the persons found are as far from {@code origin} as the expected ones, one by one.
+     * Two persons at the same haversine distance may come out in either order because of rounding, so persons are
+     * compared by distance instead.
+     */
+    private static void assertSameDistances(Coordinates origin, List<Person> expected, List<Person> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(origin.distanceTo(expected.get(i).getCoordinates().get()),
+                    origin.distanceTo(actual.get(i).getCoordinates().get()), 1e-9);
+        }
+    }
+
+    private static Person located(long id, double latitude, double longitude) {
+        return new PersonBuilder().withName("Person " + id).withCoordinates(latitude, longitude).build().withId(id);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.KeywordMatch;
+
+public class PersonSearchIndexTest {
+
+    private static final Person BENSON_WITH_ID = BENSON.withId(1);
+    private static final Person DANIEL_WITH_ID = DANIEL.withId(2);
+    private static final Person ELLE_WITH_ID = ELLE.withId(3);
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(BENSON_WITH_ID);
+        index.add(DANIEL_WITH_ID);
+        index.add(ELLE_WITH_ID);
+    }
+
+    @Test
+    public void find_fullWord_matchesWholeWordsIgnoringCase() {
+        assertEquals(Set.of(1L, 2L), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("MEIER", false))));
+        assertEquals(Set.of(), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("Mei", false))));
+    }
+
+    @Test
+    public void find_prefix_matchesOnlyWordsWithPrefix() {
+        assertEquals(Set.of(1L, 2L, 3L), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("me", true))));
+        assertEquals(Set.of(1L, 2L), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("mei", true))));
+        assertEquals(Set.of(), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("meiers", true))));
+    }
+
+    @Test
+    public void find_multipleKeywords_matchesAnyKeyword() {
+        Set<KeywordMatch> keywordMatches = Set.of(new KeywordMatch("owesMoney", false),
+                new KeywordMatch("benef", true));
+        assertEquals(Set.of(1L, 3L), index.find(Person.TAG_STR_GETTER, keywordMatches));
+    }
+
+    @Test
+    public void find_attributesIndexedSeparately() {
+        Set<KeywordMatch> keywordMatches = Set.of(new KeywordMatch("Meier", false));
+        assertEquals(Set.of(), index.find(Person.ADDRESS_STR_GETTER, keywordMatches));
+    }
+
+    @Test
+    public void find_unindexedAttribute_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                index.find(Person.ROLE_TAG_STR_GETTER, Set.of(new KeywordMatch("volunteer", false))));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        long version = index.getVersion();
+        index.remove(BENSON_WITH_ID);
+
+        assertNotEquals(version, index.getVersion());
+        assertEquals(Set.of(2L), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("Meier", false))));
+        assertEquals(Set.of(), index.find(Person.TAG_STR_GETTER, Set.of(new KeywordMatch("owes", true))));
+    }
+
+    @Test
+    public void clear_allPersonsRemoved() {
+        index.clear();
+        assertEquals(Set.of(), index.find(Person.NAME_STR_GETTER, Set.of(new KeywordMatch("", true))));
+    }
+}
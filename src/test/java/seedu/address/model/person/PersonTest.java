@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.StringUtil.removeAllWhitespace;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
@@ -15,6 +19,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -64,6 +70,18 @@ public class PersonTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same identity -> same key
+        Person editedBob = new PersonBuilder(BOB).withName(VALID_NAME_BOB.toLowerCase() + " ")
+                .withPhone(VALID_PHONE_BOB_SPACED).withEmail(VALID_EMAIL_AMY).build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+        assertEquals(BOB.getIdentityKey(), Person.toIdentityKey(VALID_NAME_BOB, VALID_PHONE_BOB));
+
+        // different identity -> different key
+        assertNotEquals(ALICE.getIdentityKey(), BOB.getIdentityKey());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -107,11 +125,32 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void searchableAttributes() {
+        Person person = new PersonBuilder().withName("Alice  van Pauline").withPhone(VALID_PHONE_BOB_SPACED)
+                .withTags(VALID_TAG_BENEFICIARY, "Friends").build();
+
+        assertEquals(removeAllWhitespace(VALID_PHONE_BOB_SPACED), Person.PHONE_UNSPACED_STR_GETTER.apply(person));
+        assertArrayEquals(new String[] {"alice", "van", "pauline"}, Person.NAME_STR_GETTER.wordsOf(person));
+        assertEquals(Set.of(VALID_TAG_BENEFICIARY.toLowerCase(), "friends"),
+                Set.of(Person.TAG_STR_GETTER.wordsOf(person)));
+        assertEquals(Role.BENEFICIARY, person.getRole());
+        assertEquals("beneficiary", Person.ROLE_TAG_STR_GETTER.apply(person));
+        assertEquals(Role.VOLUNTEER, ALICE.getRole());
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(ALICE.hashCode(), ALICE.withId(5).hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
                 + ", email=" + ALICE.getEmail() + ", address=" + ALICE.getAddress() + ", region=" + ALICE.getRegion()
-                + ", tags=" + ALICE.getTags() + "}";
+                + ", tags=" + ALICE.getTags() + ", coordinates=null}";
         assertEquals(expected, ALICE.toString());
     }
 }
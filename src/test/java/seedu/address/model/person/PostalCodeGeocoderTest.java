@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PostalCodeGeocoderTest {
+
+    @Test
+    public void findRegionOfPostalCode_knownSectors() {
+        assertEquals(Optional.of(ValidRegion.RIVER_VALLEY), PostalCodeGeocoder.findRegionOfPostalCode("018956"));
+        assertEquals(Optional.of(ValidRegion.QUEENSTOWN), PostalCodeGeocoder.findRegionOfPostalCode("119077"));
+        assertEquals(Optional.of(ValidRegion.BEDOK), PostalCodeGeocoder.findRegionOfPostalCode("460002"));
+        assertEquals(Optional.of(ValidRegion.WOODLANDS), PostalCodeGeocoder.findRegionOfPostalCode("738099"));
+
+        // first and last sectors of a range
+        assertEquals(Optional.of(ValidRegion.KALLANG), PostalCodeGeocoder.findRegionOfPostalCode("170001"));
+        assertEquals(Optional.of(ValidRegion.KALLANG), PostalCodeGeocoder.findRegionOfPostalCode("219999"));
+        assertEquals(Optional.of(ValidRegion.PUNGGOL), PostalCodeGeocoder.findRegionOfPostalCode("828761"));
+    }
+
+    @Test
+    public void findRegionOfPostalCode_unknownOrInvalid_empty() {
+        // sectors that are not in any range
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode("001234"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode("741234"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode("991234"));
+
+        // not six digits
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode("73809"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode("7380991"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode("73809a"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfPostalCode(""));
+
+        assertThrows(NullPointerException.class, () -> PostalCodeGeocoder.findRegionOfPostalCode(null));
+    }
+
+    @Test
+    public void findRegionOfAddress_lastPostalCodeUsed() {
+        assertEquals(Optional.of(ValidRegion.TAMPINES),
+                PostalCodeGeocoder.findRegionOfAddress("10 Tampines Central 1, #01-23, Singapore 529536"));
+        assertEquals(Optional.of(ValidRegion.TAMPINES),
+                PostalCodeGeocoder.findRegionOfAddress("Tampines Hub S529536"));
+        assertEquals(Optional.of(ValidRegion.WOODLANDS),
+                PostalCodeGeocoder.findRegionOfAddress("Blk 529536 is wrong, use 738099 instead"));
+    }
+
+    @Test
+    public void findRegionOfAddress_noPostalCode_empty() {
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfAddress("Block 312, Amy Street 1"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfAddress("123, Clementi Rd, 1234665"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfAddress(""));
+
+        // the last six-digit number decides, even if its sector is unknown
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findRegionOfAddress("738099, then 991234"));
+    }
+
+    @Test
+    public void findCoordinatesOfAddress_centreOfSector() {
+        assertEquals(Optional.of(new Coordinates(1.436, 103.786)),
+                PostalCodeGeocoder.findCoordinatesOfAddress("Blk 888 Woodlands Dr 50, Singapore 730888"));
+        assertEquals(Optional.of(new Coordinates(1.283, 103.851)),
+                PostalCodeGeocoder.findCoordinatesOfPostalCode("018956"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findCoordinatesOfAddress("Block 312, Amy Street 1"));
+        assertEquals(Optional.empty(), PostalCodeGeocoder.findCoordinatesOfPostalCode("741234"));
+    }
+
+    @Test
+    public void findCoordinatesOfPostalCode_everyRangeWithinSingapore() {
+        for (int sector = 1; sector <= 82; sector++) {
+            PostalCodeGeocoder.findCoordinatesOfPostalCode(String.format("%02d0000", sector)).ifPresent(centre -> {
+                assertTrue(centre.latitude > 1.2 && centre.latitude < 1.48);
+                assertTrue(centre.longitude > 103.6 && centre.longitude < 104.1);
+            });
+        }
+    }
+
+    @Test
+    public void findRegionOfAddress_manyAddresses_allFound() {
+        // every sector in the table is found in an address of the same shape
+        int found = 0;
+        for (int sector = 1; sector <= 82; sector++) {
+            String address = String.format("Blk %d Some Street, Singapore %02d%04d", sector, sector, sector * 37);
+            found += PostalCodeGeocoder.findRegionOfAddress(address).isPresent() ? 1 : 0;
+        }
+        // sector 74 is the only gap in the table
+        assertEquals(81, found);
+    }
+}
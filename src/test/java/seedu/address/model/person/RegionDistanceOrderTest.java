@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class RegionDistanceOrderTest {
+
+    @Test
+    public void compare_anchor_comesFirst() {
+        Person anchor = ALICE.withId(7);
+        Person sameRegion = new PersonBuilder(ALICE).withName("Alicia").build();
+        RegionDistanceOrder order = new RegionDistanceOrder(anchor);
+
+        assertTrue(order.compare(anchor, sameRegion) < 0);
+        assertTrue(order.compare(sameRegion, anchor) > 0);
+        // the anchor is also recognised by its ID after it is edited
+        assertTrue(order.compare(new PersonBuilder(anchor).withName("Alice Tan").build().withId(7), sameRegion) < 0);
+        assertEquals(0, order.compare(sameRegion, new PersonBuilder(sameRegion).withPhone("81234567").build()));
+    }
+
+    @Test
+    public void compare_byDistanceThenRegionName() {
+        Person anchor = new PersonBuilder().withRegion("Woodlands").build();
+        RegionDistanceOrder order = new RegionDistanceOrder(anchor);
+        List<Person> persons = new ArrayList<>();
+        for (ValidRegion region : ValidRegion.values()) {
+            persons.add(new PersonBuilder().withName("Person " + region.ordinal())
+                    .withRegion(region.getDisplayName()).build());
+        }
+        persons.sort(order);
+
+        for (int i = 0; i < persons.size() - 1; i++) {
+            ValidRegion first = persons.get(i).getRegion().value;
+            ValidRegion second = persons.get(i + 1).getRegion().value;
+            int firstDistance = ValidRegion.getDistance(ValidRegion.WOODLANDS, first);
+            int secondDistance = ValidRegion.getDistance(ValidRegion.WOODLANDS, second);
+            assertTrue(firstDistance < secondDistance || (firstDistance == secondDistance
+                    && first.getDisplayName().compareTo(second.getDisplayName()) < 0));
+        }
+        assertEquals(ValidRegion.WOODLANDS, persons.get(0).getRegion().value);
+    }
+
+    @Test
+    public void sort_manyPersons_anchorFirstAndRegionOrderKept() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        for (int i = 0; i < 50; i++) {
+            persons.add(new PersonBuilder().withName("Extra " + i)
+                    .withRegion(ValidRegion.values()[i % ValidRegion.values().length].getDisplayName()).build());
+        }
+        Person anchor = persons.get(3);
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(new RegionDistanceOrder(anchor));
+
+        assertEquals(anchor, sorted.get(0));
+        // persons in the same region keep the order they were given in
+        for (ValidRegion region : ValidRegion.values()) {
+            List<Person> given = new ArrayList<>(persons);
+            given.remove(anchor);
+            given.removeIf(person -> person.getRegion().value != region);
+            List<Person> kept = new ArrayList<>(sorted.subList(1, sorted.size()));
+            kept.removeIf(person -> person.getRegion().value != region);
+            assertEquals(given, kept);
+        }
+    }
+
+    @Test
+    public void sort_sameRegion_tiesKeepOrder() {
+        Person anchor = new PersonBuilder().withName("Anchor").withRegion("Woodlands").build().withId(1);
+        Person first = new PersonBuilder().withName("First").withRegion("Clementi").build().withId(2);
+        Person second = new PersonBuilder().withName("Second").withRegion("Clementi").build().withId(3);
+        Person third = new PersonBuilder().withName("Third").withRegion("Clementi").build().withId(4);
+        RegionDistanceOrder order = new RegionDistanceOrder(anchor);
+
+        assertEquals(0, order.compare(first, second));
+        assertEquals(0, order.compare(third, first));
+        assertTrue(order.compare(anchor, third) < 0);
+
+        List<Person> sorted = new ArrayList<>(List.of(second, third, anchor, first));
+        sorted.sort(order);
+        assertEquals(List.of(anchor, second, third, first), sorted);
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class RegionGraphTest {
+
+    // a - b - c is 2 + 3 minutes, a - c directly is 10 minutes, and d is not connected
+    private static final String SMALL_GRAPH = "from,to,minutes\n"
+            + "A,B,2\n"
+            + "B,C,3\n"
+            + "\n"
+            + "\"A\",C,10\n";
+
+    @Test
+    public void fromCsv_knownNamesNumberedFirst() throws Exception {
+        RegionGraph graph = read(SMALL_GRAPH, List.of("D", "C"), 4);
+
+        assertEquals(4, graph.size());
+        assertEquals(0, graph.findRegion("d"));
+        assertEquals(1, graph.findRegion("C"));
+        assertEquals(2, graph.findRegion("a"));
+        assertEquals(3, graph.findRegion("B"));
+        assertEquals(-1, graph.findRegion("E"));
+        assertEquals(-1, graph.findRegion(null));
+        assertEquals("A", graph.getName(2));
+    }
+
+    @Test
+    public void getNeighbours_bothDirectionsInFileOrder() throws Exception {
+        RegionGraph graph = read(SMALL_GRAPH, List.of(), 4);
+        int a = graph.findRegion("A");
+        int b = graph.findRegion("B");
+        int c = graph.findRegion("C");
+
+        assertArrayEquals(new int[] {b, c}, graph.getNeighbours(a));
+        assertArrayEquals(new int[] {b, a}, graph.getNeighbours(c));
+        assertEquals(3, graph.getTravelTime(c, b));
+        assertEquals(-1, graph.getTravelTime(a, a));
+    }
+
+    @Test
+    public void getDistance_shortestTravelTime() throws Exception {
+        RegionGraph graph = read(SMALL_GRAPH, List.of("D"), 4);
+        int a = graph.findRegion("A");
+        int c = graph.findRegion("C");
+        int d = graph.findRegion("D");
+
+        assertEquals(5, graph.getDistance(a, c));
+        assertEquals(5, graph.getDistance(c, a));
+        assertEquals(0, graph.getDistance(d, d));
+        assertEquals(Integer.MAX_VALUE, graph.getDistance(a, d));
+        assertArrayEquals(new int[] {c, graph.findRegion("B"), a, d}, graph.getRegionsByDistanceFrom(c));
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.getDistance(a, 4));
+    }
+
+    @Test
+    public void getDistancesFromNearest_nearestSourceCounted() throws Exception {
+        RegionGraph graph = read(SMALL_GRAPH, List.of("D"), 4);
+        int a = graph.findRegion("A");
+        int b = graph.findRegion("B");
+        int c = graph.findRegion("C");
+        int d = graph.findRegion("D");
+
+        int[] distances = graph.getDistancesFromNearest(a, c);
+        assertEquals(0, distances[a]);
+        assertEquals(2, distances[b]);
+        assertEquals(0, distances[c]);
+        assertEquals(Integer.MAX_VALUE, distances[d]);
+        assertArrayEquals(new int[] {Integer.MAX_VALUE, 0, 2, 5}, graph.getDistancesFromNearest(a));
+
+        // no sources reach nothing
+        assertArrayEquals(new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE},
+                graph.getDistancesFromNearest());
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.getDistancesFromNearest(a, 4));
+        assertEquals(0, graph.getCachedRowCount());
+    }
+
+    @Test
+    public void getDistance_leastRecentlyUsedRowsEvicted() throws Exception {
+        RegionGraph graph = read(SMALL_GRAPH, List.of(), 2);
+
+        graph.getDistance(0, 1);
+        graph.getDistance(1, 2);
+        graph.getDistance(0, 2);
+        assertEquals(2, graph.getCachedRowCount());
+        // the row of region 1 was evicted and is computed again
+        graph.getDistance(2, 0);
+        assertEquals(2, graph.getCachedRowCount());
+        assertEquals(3, graph.getDistance(1, 2));
+    }
+
+    @Test
+    public void fromCsv_largeGrid_distancesComputedOnDemand() throws Exception {
+        int side = 100;
+        StringBuilder csv = new StringBuilder("from,to,minutes\n");
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                if (column + 1 < side) {
+                    csv.append(row).append('-').append(column).append(',')
+                            .append(row).append('-').append(column + 1).append(",1\n");
+                }
+                if (row + 1 < side) {
+                    csv.append(row).append('-').append(column).append(',')
+                            .append(row + 1).append('-').append(column).append(",2\n");
+                }
+            }
+        }
+
+        RegionGraph graph = read(csv.toString(), List.of(), 8);
+
+        assertEquals(side * side, graph.size());
+        int corner = graph.findRegion("0-0");
+        int oppositeCorner = graph.findRegion((side - 1) + "-" + (side - 1));
+        assertEquals((side - 1) * 3, graph.getDistance(corner, oppositeCorner));
+        assertEquals(oppositeCorner, graph.getRegionsByDistanceFrom(corner)[side * side - 1]);
+        assertEquals(1, graph.getCachedRowCount());
+    }
+
+    @Test
+    public void fromCsv_invalidLines_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read("from,to,minutes\nA,B\n", List.of(), 1));
+        assertThrows(IllegalValueException.class, () -> read("from,to,minutes\nA,B,0\n", List.of(), 1));
+        assertThrows(IllegalValueException.class, () -> read("from,to,minutes\nA,B,soon\n", List.of(), 1));
+        assertThrows(IllegalValueException.class, () -> read("from,to,minutes\nA,a,3\n", List.of(), 1));
+        assertThrows(IllegalValueException.class, () -> read("from,to,minutes\n,B,3\n", List.of(), 1));
+        assertThrows(IllegalValueException.class, String.format(RegionGraph.MESSAGE_DUPLICATE_EDGE, 3, "B", "A"), () ->
+                read("from,to,minutes\nA,B,3\nB,A,4\n", List.of(), 1));
+    }
+
+    private static RegionGraph read(String csv, List<String> knownNames, int rowCacheSize) throws Exception {
+        return RegionGraph.fromCsv(new BufferedReader(new StringReader(csv)), knownNames, rowCacheSize);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class RegionIndexTest {
+
+    private final RegionIndex regionIndex = new RegionIndex();
+    private final List<Person> volunteers = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        ValidRegion[] regions = ValidRegion.values();
+        for (int i = 0; i < 3 * regions.length; i++) {
+            String tag = i % 2 == 0 ? "volunteer" : "beneficiary";
+            Person person = new PersonBuilder().withName("Person " + i).withTags(tag)
+                    .withRegion(regions[(i * 7) % regions.length].getDisplayName()).build().withId(i + 1);
+            regionIndex.add(person);
+            if (person.getRole() == Role.VOLUNTEER) {
+                volunteers.add(person);
+            }
+        }
+    }
+
+    @Test
+    public void findClosest_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> regionIndex.findClosest(ValidRegion.WOODLANDS,
+                Role.VOLUNTEER, 0));
+    }
+
+    @Test
+    public void findClosest_sameOrderAsRegionDistanceOrder() {
+        Person anchor = new PersonBuilder().withRegion("Woodlands").withTags("beneficiary").build();
+        // a stable sort keeps persons in the same region in ID order
+        List<Person> expected = new ArrayList<>(volunteers);
+        expected.sort(new RegionDistanceOrder(anchor));
+
+        for (int count : new int[] {1, 5, 17, expected.size()}) {
+            assertEquals(expected.subList(0, count), regionIndex.findClosest(ValidRegion.WOODLANDS, Role.VOLUNTEER,
+                    count));
+        }
+        // asking for more persons than there are returns all of them
+        assertEquals(expected, regionIndex.findClosest(ValidRegion.WOODLANDS, Role.VOLUNTEER, expected.size() + 10));
+    }
+
+    @Test
+    public void findClosest_onlyPersonsWithRole() {
+        List<Person> beneficiaries = regionIndex.findClosest(ValidRegion.CLEMENTI, Role.BENEFICIARY, 1000);
+        assertTrue(beneficiaries.stream().allMatch(person -> person.getRole() == Role.BENEFICIARY));
+        assertEquals(3 * ValidRegion.values().length - volunteers.size(), beneficiaries.size());
+    }
+
+    @Test
+    public void remove_personNoLongerFound() {
+        Person closest = regionIndex.findClosest(ValidRegion.WOODLANDS, Role.VOLUNTEER, 1).get(0);
+        regionIndex.remove(closest);
+        List<Person> remaining = regionIndex.findClosest(ValidRegion.WOODLANDS, Role.VOLUNTEER, 1000);
+        assertEquals(volunteers.size() - 1, remaining.size());
+        assertFalse(remaining.contains(closest));
+
+        // an edited person is found under its new region
+        Person moved = new PersonBuilder(closest).withRegion("Tampines").build().withId(closest.getId());
+        regionIndex.add(moved);
+        assertTrue(regionIndex.findClosest(ValidRegion.TAMPINES, Role.VOLUNTEER, 1000).contains(moved));
+    }
+
+    @Test
+    public void clear_noPersonsFound() {
+        regionIndex.clear();
+        assertTrue(regionIndex.findClosest(ValidRegion.WOODLANDS, Role.VOLUNTEER, 5).isEmpty());
+    }
+}
@@ -2,16 +2,21 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.KeywordMatch;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class StrAttrContainsKeywordsTest {
 
@@ -108,4 +113,45 @@ public class StrAttrContainsKeywordsTest {
         String expected = StrAttrContainsKeywords.class.getCanonicalName() + "{keywords=" + keywordMatches + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void withIndex_indexedAttribute_acceptsSamePersons() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        List<Set<KeywordMatch>> queries = List.of(
+                Set.of(new KeywordMatch("Meier", false)),
+                Set.of(new KeywordMatch("mEi", true), new KeywordMatch("Kurz", false)),
+                Set.of(new KeywordMatch("Meie", false)),
+                Set.of(new KeywordMatch("e", true)));
+
+        for (Function<Person, String> attributeGetter : PersonSearchIndex.INDEXED_ATTRIBUTES) {
+            for (Set<KeywordMatch> keywordMatches : queries) {
+                StrAttrContainsKeywords predicate = new StrAttrContainsKeywords(keywordMatches, attributeGetter);
+                Predicate<Person> indexedPredicate = predicate.withIndex(persons.getSearchIndex());
+                for (Person person : persons) {
+                    assertEquals(predicate.test(person), indexedPredicate.test(person));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void withIndex_listChanged_lookupRepeated() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        Predicate<Person> predicate = new StrAttrContainsKeywords(Set.of(new KeywordMatch("Alicia", false)),
+                Person.NAME_STR_GETTER).withIndex(persons.getSearchIndex());
+        Person alice = persons.asUnmodifiableObservableList().get(0);
+        assertFalse(predicate.test(alice));
+
+        persons.setPerson(alice, new PersonBuilder(alice).withName("Alicia Pauline").build());
+        assertTrue(predicate.test(persons.asUnmodifiableObservableList().get(0)));
+    }
+
+    @Test
+    public void withIndex_unindexedAttribute_returnsSamePredicate() {
+        StrAttrContainsKeywords predicate = new StrAttrContainsKeywords(
+                Set.of(new KeywordMatch("volunteer", false)), Person.ROLE_TAG_STR_GETTER);
+        assertSame(predicate, predicate.withIndex(new PersonSearchIndex()));
+    }
 }
@@ -2,12 +2,15 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_VOLUNTEER;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +112,17 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +141,126 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void add_personWithoutId_idAssigned() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        Person storedBob = uniquePersonList.asUnmodifiableObservableList().get(1);
+        assertTrue(storedAlice.hasId());
+        assertTrue(storedBob.hasId());
+        assertNotEquals(storedAlice.getId(), storedBob.getId());
+    }
+
+    @Test
+    public void add_personWithTakenId_freshIdAssigned() {
+        uniquePersonList.add(ALICE.withId(7));
+        uniquePersonList.add(BOB.withId(7));
+        assertEquals(7, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        assertEquals(8, uniquePersonList.asUnmodifiableObservableList().get(1).getId());
+    }
+
+    @Test
+    public void setPerson_storedPerson_editedPersonKeepsId() {
+        uniquePersonList.add(ALICE);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        uniquePersonList.setPerson(storedAlice, BOB);
+        assertEquals(storedAlice.getId(), uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person storedBob = uniquePersonList.asUnmodifiableObservableList().get(1);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(storedBob);
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void remove_staleVersionOfStoredPerson_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person staleAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        uniquePersonList.setPerson(staleAlice, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(staleAlice));
+    }
+
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(CARL, BOB));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, CARL, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.remove(CARL);
+        uniquePersonList.remove(BOB);
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.removeAll(null));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(BOB, CARL)));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeAll_existingPersons_removedAndOrderKept() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE, CARL));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(BOB, DANIEL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+
+        // positions of the remaining persons are still tracked
+        uniquePersonList.remove(uniquePersonList.asUnmodifiableObservableList().get(1));
+        uniquePersonList.add(ALICE);
+        expectedUniquePersonList.setPersons(Arrays.asList(BOB, ALICE));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeAll_singlePerson_removed() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.removeAll(List.of(BOB));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        uniquePersonList.remove(CARL);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void remove_existingPerson_identityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +296,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityDifferentSpacing_throwsDuplicatePersonException() {
+        Person spacedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase() + " ")
+                .withPhone(ALICE.getPhone().value.substring(0, 4) + " " + ALICE.getPhone().value.substring(4))
+                .build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, spacedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_previousIdentitiesFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -91,18 +93,81 @@ public class ValidRegionTest {
 
     @Test
     public void testRegionDistances() {
-        assertEquals(1, ValidRegion.getDistance(ValidRegion.BEDOK, ValidRegion.TAMPINES),
-                "Bedok ↔ Tampines should be 1 hop apart");
+        assertEquals(9, ValidRegion.getDistance(ValidRegion.BEDOK, ValidRegion.TAMPINES),
+                "Bedok ↔ Tampines should be 9 minutes apart");
 
-        assertEquals(2, ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.YISHUN),
-                "Woodlands ↔ Yishun should be 2 hops apart");
-        assertEquals(2, ValidRegion.getDistance(ValidRegion.QUEENSTOWN, ValidRegion.NOVENA),
-                "Queenstown ↔ Novena should be 2 hops apart");
+        assertEquals(17, ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.YISHUN),
+                "Woodlands ↔ Yishun should be 17 minutes apart, through Sembawang");
+        assertEquals(24, ValidRegion.getDistance(ValidRegion.QUEENSTOWN, ValidRegion.NOVENA),
+                "Queenstown ↔ Novena should be 24 minutes apart, through Kallang");
 
-        assertEquals(5, ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.TOA_PAYOH),
-                "Woodlands ↔ Toa Payoh should be 5 hops apart");
+        assertEquals(44, ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.TOA_PAYOH),
+                "Woodlands ↔ Toa Payoh should be 44 minutes apart");
 
-        assertEquals(6, ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.TAMPINES),
-                "Woodlands ↔ Tampines should be roughly 6 hops apart");
+        assertEquals(62, ValidRegion.getDistance(ValidRegion.WOODLANDS, ValidRegion.TAMPINES),
+                "Woodlands ↔ Tampines should be 62 minutes apart");
+
+        // adjacent regions are no longer all the same distance apart
+        assertEquals(15, ValidRegion.getDistance(ValidRegion.TUAS, ValidRegion.BOON_LAY));
+        assertEquals(12, ValidRegion.getDistance(ValidRegion.CHANGI, ValidRegion.TAMPINES));
+    }
+
+    @Test
+    public void getTravelTimeTo_notAdjacent_throwsIllegalArgumentException() {
+        assertEquals(8, ValidRegion.WOODLANDS.getTravelTimeTo(ValidRegion.SEMBAWANG));
+        assertThrows(IllegalArgumentException.class, () -> ValidRegion.WOODLANDS.getTravelTimeTo(ValidRegion.TUAS));
+    }
+
+    @Test
+    public void getDistance_sameAsFloydWarshall() {
+        ValidRegion[] regions = ValidRegion.values();
+        long[][] distances = new long[regions.length][regions.length];
+        for (ValidRegion from : regions) {
+            Arrays.fill(distances[from.ordinal()], Integer.MAX_VALUE);
+            distances[from.ordinal()][from.ordinal()] = 0;
+            for (ValidRegion to : from.getAdjacentRegions()) {
+                distances[from.ordinal()][to.ordinal()] = from.getTravelTimeTo(to);
+            }
+        }
+        for (int k = 0; k < regions.length; k++) {
+            for (int i = 0; i < regions.length; i++) {
+                for (int j = 0; j < regions.length; j++) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i][k] + distances[k][j]);
+                }
+            }
+        }
+
+        for (ValidRegion from : regions) {
+            for (ValidRegion to : regions) {
+                assertEquals(distances[from.ordinal()][to.ordinal()], ValidRegion.getDistance(from, to),
+                        from + " ↔ " + to);
+            }
+        }
+    }
+
+    @Test
+    public void getRegionsByDistanceFrom_orderedByDistanceThenName() {
+        for (ValidRegion origin : ValidRegion.values()) {
+            List<ValidRegion> regions = ValidRegion.getRegionsByDistanceFrom(origin);
+            assertEquals(ValidRegion.values().length, regions.size());
+            assertEquals(origin, regions.get(0));
+            for (int i = 0; i < regions.size() - 1; i++) {
+                int firstDistance = ValidRegion.getDistance(origin, regions.get(i));
+                int secondDistance = ValidRegion.getDistance(origin, regions.get(i + 1));
+                assertTrue(firstDistance < secondDistance || (firstDistance == secondDistance
+                        && regions.get(i).getDisplayName().compareTo(regions.get(i + 1).getDisplayName()) < 0));
+            }
+        }
+    }
+
+    @Test
+    public void getDistancesFromNearest_sameAsNearestOfEachSource() {
+        List<ValidRegion> sources = List.of(ValidRegion.WOODLANDS, ValidRegion.TAMPINES, ValidRegion.CLEMENTI);
+        int[] distances = ValidRegion.getDistancesFromNearest(sources);
+        for (ValidRegion region : ValidRegion.values()) {
+            int nearest = sources.stream().mapToInt(source -> ValidRegion.getDistance(source, region)).min()
+                    .getAsInt();
+            assertEquals(nearest, distances[region.ordinal()]);
+        }
     }
 }
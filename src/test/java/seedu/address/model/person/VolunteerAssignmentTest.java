@@ -0,0 +1,149 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.PersonBuilder.buildInRegion;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class VolunteerAssignmentTest {
+
+    private static final ValidRegion[] REGIONS = ValidRegion.values();
+
+    @Test
+    public void assign_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> VolunteerAssignment.assign(List.of(), List.of(), 0));
+    }
+
+    @Test
+    public void assign_sameRegionPreferred() {
+        Person woodlandsVolunteer = buildInRegion("Volunteer 1", "volunteer", ValidRegion.WOODLANDS);
+        Person tampinesVolunteer = buildInRegion("Volunteer 2", "volunteer", ValidRegion.TAMPINES);
+        Person tampinesBeneficiary = buildInRegion("Beneficiary 1", "beneficiary", ValidRegion.TAMPINES);
+        Person woodlandsBeneficiary = buildInRegion("Beneficiary 2", "beneficiary", ValidRegion.WOODLANDS);
+
+        VolunteerAssignment assignment = VolunteerAssignment.assign(List.of(woodlandsVolunteer, tampinesVolunteer),
+                List.of(tampinesBeneficiary, woodlandsBeneficiary), 1);
+
+        assertEquals(List.of(woodlandsBeneficiary), assignment.getBeneficiariesByVolunteer().get(woodlandsVolunteer));
+        assertEquals(List.of(tampinesBeneficiary), assignment.getBeneficiariesByVolunteer().get(tampinesVolunteer));
+        assertEquals(0, assignment.getTotalDistance());
+        assertEquals(0, assignment.getMaxDistance());
+        assertTrue(assignment.getUnassignedBeneficiaries().isEmpty());
+    }
+
+    @Test
+    public void assign_notEnoughCapacity_restUnassigned() {
+        Person volunteer = buildInRegion("Volunteer", "volunteer", ValidRegion.WOODLANDS);
+        List<Person> beneficiaries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            beneficiaries.add(buildInRegion("Beneficiary " + i, "beneficiary", i < 2 ? ValidRegion.BEDOK
+                    : ValidRegion.WOODLANDS));
+        }
+
+        VolunteerAssignment assignment = VolunteerAssignment.assign(List.of(volunteer), beneficiaries, 3);
+
+        assertEquals(beneficiaries.subList(2, 5), assignment.getBeneficiariesByVolunteer().get(volunteer));
+        assertEquals(beneficiaries.subList(0, 2), assignment.getUnassignedBeneficiaries());
+        assertEquals(3, assignment.getAssignedCount());
+    }
+
+    @Test
+    public void assign_smallInstances_sameCostAsExhaustiveSearch() {
+        Random random = new Random(20);
+        for (int round = 0; round < 30; round++) {
+            int capacity = 1 + random.nextInt(2);
+            List<Person> volunteers = createPersons(random, "volunteer", 1 + random.nextInt(3), 4);
+            List<Person> beneficiaries = createPersons(random, "beneficiary", 1 + random.nextInt(5), 4);
+
+            VolunteerAssignment assignment = VolunteerAssignment.assign(volunteers, beneficiaries, capacity);
+
+            long[] best = findBestByExhaustiveSearch(volunteers, beneficiaries, capacity);
+            assertEquals(best[0], assignment.getAssignedCount());
+            assertEquals(best[1], assignment.getTotalDistance());
+            assertValid(assignment, volunteers, beneficiaries, capacity);
+        }
+    }
+
+    @Test
+    public void assign_manyPersons_validAndBalanced() {
+        Random random = new Random(7);
+        List<Person> volunteers = createPersons(random, "volunteer", 10_000, REGIONS.length);
+        List<Person> beneficiaries = createPersons(random, "beneficiary", 25_000, REGIONS.length);
+
+        VolunteerAssignment assignment = VolunteerAssignment.assign(volunteers, beneficiaries, 3);
+
+        assertEquals(beneficiaries.size(), assignment.getAssignedCount());
+        assertValid(assignment, volunteers, beneficiaries, 3);
+    }
+
+    private static void assertValid(VolunteerAssignment assignment, List<Person> volunteers,
+            List<Person> beneficiaries, int capacity) {
+        Set<Person> seen = new HashSet<>(assignment.getUnassignedBeneficiaries());
+        long totalDistance = 0;
+        int maxDistance = 0;
+        for (Person volunteer : assignment.getBeneficiariesByVolunteer().keySet()) {
+            List<Person> assigned = assignment.getBeneficiariesByVolunteer().get(volunteer);
+            assertTrue(volunteers.contains(volunteer));
+            assertTrue(!assigned.isEmpty() && assigned.size() <= capacity);
+            for (Person beneficiary : assigned) {
+                assertTrue(seen.add(beneficiary));
+                int distance = ValidRegion.getDistance(volunteer.getRegion().value, beneficiary.getRegion().value);
+                totalDistance += distance;
+                maxDistance = Math.max(maxDistance, distance);
+            }
+        }
+        assertEquals(new HashSet<>(beneficiaries), seen);
+        assertEquals(totalDistance, assignment.getTotalDistance());
+        assertEquals(maxDistance, assignment.getMaxDistance());
+    }
+
+    /**
+     * Returns the largest number of beneficiaries that can be paired, and the smallest total distance to pair them.
+     */
+    private static long[] findBestByExhaustiveSearch(List<Person> volunteers, List<Person> beneficiaries,
+            int capacity) {
+        long[] best = {0, 0};
+        search(volunteers, beneficiaries, capacity, 0, new int[volunteers.size()], 0, 0, best);
+        return best;
+    }
+
+    private static void search(List<Person> volunteers, List<Person> beneficiaries, int capacity, int next,
+            int[] loads, long assignedCount, long totalDistance, long[] best) {
+        if (next == beneficiaries.size()) {
+            if (assignedCount > best[0] || (assignedCount == best[0] && totalDistance < best[1])) {
+                best[0] = assignedCount;
+                best[1] = totalDistance;
+            }
+            return;
+        }
+        search(volunteers, beneficiaries, capacity, next + 1, loads, assignedCount, totalDistance, best);
+        for (int i = 0; i < volunteers.size(); i++) {
+            if (loads[i] < capacity) {
+                loads[i]++;
+                int distance = ValidRegion.getDistance(volunteers.get(i).getRegion().value,
+                        beneficiaries.get(next).getRegion().value);
+                search(volunteers, beneficiaries, capacity, next + 1, loads, assignedCount + 1,
+                        totalDistance + distance, best);
+                loads[i]--;
+            }
+        }
+    }
+
+    private static List<Person> createPersons(Random random, String tag, int count, int regionCount) {
+        List<Person> persons = new ArrayList<>();
+        // regions far apart, so that the distance matters
+        for (int i = 0; i < count; i++) {
+            persons.add(buildInRegion(tag + " " + i, tag, REGIONS[random.nextInt(regionCount) * (REGIONS.length
+                    / regionCount)]));
+        }
+        return persons;
+    }
+}
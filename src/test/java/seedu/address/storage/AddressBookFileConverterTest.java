@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path roundTripPath = testFolder.resolve("roundTrip.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convert(jsonPath, DataFileFormat.JSON, binaryPath, DataFileFormat.BINARY));
+        assertTrue(AddressBookFileConverter.convert(binaryPath, DataFileFormat.BINARY, roundTripPath,
+                DataFileFormat.JSON));
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(roundTripPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_differentFormat_fileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+        assertEquals(DataFileFormat.BINARY, AddressBookFileConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.JSON));
+        assertEquals(DataFileFormat.JSON, AddressBookFileConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_sameFormat_fileUntouched() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String content = Files.readString(filePath);
+
+        assertFalse(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.JSON));
+        assertEquals(content, Files.readString(filePath));
+    }
+
+    @Test
+    public void convertIfNeeded_missingFile_returnsFalse() throws Exception {
+        assertFalse(AddressBookFileConverter.convertIfNeeded(testFolder.resolve("missing.json"),
+                DataFileFormat.BINARY));
+    }
+
+}
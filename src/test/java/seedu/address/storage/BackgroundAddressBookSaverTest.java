@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager createStorage(JsonAddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundAddressBookSaver(null));
+    }
+
+    @Test
+    public void requestSave_changesAfterRequest_snapshotSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(
+                createStorage(new JsonAddressBookStorage(filePath)));
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+
+        saver.requestSave(addressBook, 1);
+        addressBook.addPerson(HOON);
+        saver.flush();
+
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    try {
+                        releaseFirstWrite.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(createStorage(addressBookStorage));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook, 1);
+        firstWriteStarted.await();
+        addressBook.addPerson(HOON);
+        saver.requestSave(addressBook, 2);
+        addressBook.addPerson(IDA);
+        saver.requestSave(addressBook, 3);
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_failureReported() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(createStorage(addressBookStorage));
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(getTypicalAddressBook(), 1);
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(DUMMY_IO_EXCEPTION, failures.get(0));
+    }
+
+    @Test
+    public void requestSave_unchangedVersion_noSnapshotTaken() throws Exception {
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(createStorage(addressBookStorage));
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AtomicInteger copyCount = new AtomicInteger();
+        ReadOnlyAddressBook addressBook = () -> {
+            copyCount.incrementAndGet();
+            return typicalAddressBook.getPersonList();
+        };
+
+        saver.requestSave(addressBook, 1);
+        saver.flush();
+        saver.requestSave(addressBook, 1);
+        saver.requestSave(addressBook, 1);
+        saver.flush();
+
+        assertEquals(1, copyCount.get());
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void requestSave_sameVersionAfterFailure_writtenAgain() {
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(createStorage(addressBookStorage));
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(getTypicalAddressBook(), 1);
+        saver.flush();
+        saver.requestSave(getTypicalAddressBook(), 1);
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertEquals(2, writeCount.get());
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.model.person.Person;
+
+public class BackgroundExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BackgroundExporter().submit(getTypicalPersons(), null, ExportFormat.CSV));
+    }
+
+    @Test
+    public void submit_validExport_progressAndSuccessReported() throws Exception {
+        Path filePath = testFolder.resolve("out.csv");
+        int personCount = PersonListExporter.PROGRESS_INTERVAL + 1;
+        List<Person> persons = Collections.nCopies(personCount, ALICE);
+        BackgroundExporter exporter = new BackgroundExporter();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        exporter.setStatusHandler(messages::add);
+
+        exporter.submit(persons, filePath, ExportFormat.CSV);
+        exporter.flush();
+
+        assertEquals(List.of(
+                String.format(BackgroundExporter.MESSAGE_PROGRESS, filePath, PersonListExporter.PROGRESS_INTERVAL,
+                        personCount),
+                String.format(BackgroundExporter.MESSAGE_SUCCESS, personCount, filePath)), messages);
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void submit_unwritableTarget_failureReported() throws Exception {
+        Path filePath = testFolder.resolve("directory.csv");
+        Files.createDirectories(filePath.resolve("child"));
+        BackgroundExporter exporter = new BackgroundExporter();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        exporter.setStatusHandler(messages::add);
+
+        exporter.submit(getTypicalPersons(), filePath, ExportFormat.CSV);
+        exporter.flush();
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).startsWith(String.format(BackgroundExporter.MESSAGE_FAILURE, filePath, "")));
+    }
+}
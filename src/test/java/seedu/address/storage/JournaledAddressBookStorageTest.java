@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage createStorage(Path filePath, long compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(createStorage(filePath, Long.MAX_VALUE).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // snapshot is untouched, one record per change is appended
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+
+        AddressBook readBack = new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_renameEdit_orderPreserved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+        assertEquals(original, readBack);
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_largeChange_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getCompactingPath(filePath)));
+        AddressBook snapshotOnly = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, snapshotOnly);
+
+        // changes made after compaction go to a new journal
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertEquals(original, new AddressBook(createStorage(filePath, 1).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalReplayedTwice_sameResult() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // simulate a crash after a compaction wrote its snapshot but before it removed the journal
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.copy(journalPath, JournaledAddressBookStorage.getCompactingPath(filePath));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath), "{\"op\":\"put\",\"ind".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastRecord_changesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath), "{\"op\":\"put\",\"ind".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        // the first saves after recovering must not end up behind the incomplete record
+        JournaledAddressBookStorage recovered = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook readBack = new AddressBook(recovered.readAddressBook().get());
+        readBack.addPerson(IDA);
+        recovered.saveAddressBook(readBack);
+        readBack.removePerson(ALICE);
+        recovered.saveAddressBook(readBack);
+
+        assertEquals(readBack, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.write(journalPath, "not a record\n{\"op\":\"delete\"}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, Long.MAX_VALUE).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_differentPath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+
+        assertTrue(Files.exists(otherPath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(otherPath)));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage(testFolder.resolve("a.json"), 1)
+                .saveAddressBook(null));
+    }
+}
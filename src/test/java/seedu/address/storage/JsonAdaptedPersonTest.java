@@ -14,9 +14,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -40,6 +43,38 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_personWithId_idKept() throws Exception {
+        Person person = new JsonAdaptedPerson(BENSON.withId(42)).toModelType();
+        assertEquals(BENSON, person);
+        assertEquals(42, person.getId());
+    }
+
+    @Test
+    public void toModelType_personWithCoordinates_coordinatesKept() throws Exception {
+        Person located = new PersonBuilder(BENSON).withCoordinates(1.3521, 103.8198).build();
+        assertEquals(located, new JsonAdaptedPerson(located).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidCoordinates_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_REGION, 91.0, 103.8, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Coordinates.MESSAGE_CONSTRAINTS, person::toModelType);
+
+        JsonAdaptedPerson withoutLongitude = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_REGION, 1.3, null, VALID_TAGS);
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT, "longitude"),
+                withoutLongitude::toModelType);
+    }
+
+    @Test
+    public void toModelType_nonPositiveId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_REGION, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_INVALID_ID, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonLoaderTest {
+
+    private static final JsonAdaptedPerson INVALID_NAME_RECORD = new JsonAdaptedPerson("R@chel",
+            BENSON.getPhone().value, BENSON.getEmail().value, BENSON.getAddress().value,
+            BENSON.getRegion().value.getDisplayName(), List.of(new JsonAdaptedTag("volunteer")));
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder(ALICE).withName("Person " + i).withPhone("9" + (1000000 + i)).build());
+        }
+        return persons;
+    }
+
+    @Test
+    public void toAddressBook_manyChunksAndBatches_fileOrderKept() throws Exception {
+        List<Person> persons = createPersons(ParallelPersonLoader.CHUNK_SIZE * 5 + 3);
+        List<JsonAdaptedPerson> records = persons.stream().map(JsonAdaptedPerson::new).toList();
+
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.addBatch(records.subList(0, 100));
+        loader.addBatch(records.subList(100, records.size()));
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        assertEquals(expected, loader.toAddressBook());
+    }
+
+    @Test
+    public void toAddressBook_severalInvalidRecords_everyRecordReported() {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        records.add(new JsonAdaptedPerson(ALICE));
+        records.add(INVALID_NAME_RECORD);
+        records.add(new JsonAdaptedPerson(BENSON));
+        records.add(null);
+        records.add(new JsonAdaptedPerson(ALICE));
+
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.addBatch(records.subList(0, 2));
+        loader.addBatch(records.subList(2, records.size()));
+
+        InvalidRecordsException e = assertThrowsInvalidRecords(loader);
+        assertEquals(Name.MESSAGE_CONSTRAINTS, e.getMessage());
+        assertEquals(List.of(
+                String.format(ParallelPersonLoader.INVALID_RECORD_FORMAT, 2, Name.MESSAGE_CONSTRAINTS),
+                String.format(ParallelPersonLoader.INVALID_RECORD_FORMAT, 4,
+                        JsonAddressBookStorage.MESSAGE_MISSING_PERSON),
+                String.format(ParallelPersonLoader.INVALID_RECORD_FORMAT, 5,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON)),
+                e.getInvalidRecords());
+        assertEquals(3, e.getInvalidRecordCount());
+    }
+
+    @Test
+    public void toAddressBook_tooManyInvalidRecords_countKept() {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (int i = 0; i < ParallelPersonLoader.MAX_REPORTED_RECORDS + 5; i++) {
+            records.add(INVALID_NAME_RECORD);
+        }
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.addBatch(records);
+
+        InvalidRecordsException e = assertThrowsInvalidRecords(loader);
+        assertEquals(ParallelPersonLoader.MAX_REPORTED_RECORDS, e.getInvalidRecords().size());
+        assertEquals(ParallelPersonLoader.MAX_REPORTED_RECORDS + 5, e.getInvalidRecordCount());
+        assertTrue(e.getDetails().endsWith("... and 5 more"));
+    }
+
+    private static InvalidRecordsException assertThrowsInvalidRecords(ParallelPersonLoader loader) {
+        try {
+            loader.toAddressBook();
+            throw new AssertionError("Expected an InvalidRecordsException");
+        } catch (InvalidRecordsException e) {
+            return e;
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ExportFormat;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_nullPersons_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonListExporter.export(null,
+                testFolder.resolve("out.csv"), ExportFormat.CSV, unused -> { }));
+    }
+
+    @Test
+    public void export_csv_headerAndOneLinePerPerson() throws Exception {
+        Path filePath = testFolder.resolve("out.csv");
+        Person person = new PersonBuilder(ALICE).withAddress("1, Main St").build();
+        PersonListExporter.export(List.of(person), filePath, ExportFormat.CSV, unused -> { });
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(List.of(String.join(",", CsvUtil.PERSON_COLUMNS),
+                "Alice Pauline,94351253,alice@example.com,\"1, Main St\",Jurong West,,,volunteer"), lines);
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void export_csvLocatedPerson_coordinatesWritten() throws Exception {
+        Path filePath = testFolder.resolve("out.csv");
+        Person person = new PersonBuilder(ALICE).withCoordinates(1.3521, 103.8198).build();
+        PersonListExporter.export(List.of(person), filePath, ExportFormat.CSV, unused -> { });
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals("Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",Jurong West,"
+                + "1.3521,103.8198,volunteer", lines.get(1));
+    }
+
+    @Test
+    public void export_json_readableAsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("out.json");
+        PersonListExporter.export(getTypicalPersons(), filePath, ExportFormat.JSON, unused -> { });
+
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), readBack);
+    }
+
+    @Test
+    public void export_vcard_oneCardPerPersonWithFoldedLines() throws Exception {
+        Path filePath = testFolder.resolve("out.vcf");
+        String longAddress = String.join(" ", Collections.nCopies(20, "Block 123"));
+        Person person = new PersonBuilder(ALICE).withAddress(longAddress).build();
+        PersonListExporter.export(List.of(person, ALICE), filePath, ExportFormat.VCARD, unused -> { });
+
+        String content = Files.readString(filePath, StandardCharsets.UTF_8);
+        String[] lines = content.split("\r\n");
+        assertEquals(2, content.split("BEGIN:VCARD", -1).length - 1);
+        assertTrue(content.contains("FN:Alice Pauline\r\n"));
+        assertTrue(content.contains("ADR:;;123\\, Jurong West Ave 6\\, #08-111;Jurong West;;;\r\n"));
+        for (String line : lines) {
+            assertTrue(line.length() <= 75);
+        }
+        // unfolding restores the long address
+        assertTrue(content.replace("\r\n ", "").contains("ADR:;;" + longAddress + ";"));
+    }
+
+    @Test
+    public void export_manyPersons_progressReported() throws Exception {
+        int personCount = PersonListExporter.PROGRESS_INTERVAL * 2 + 5;
+        List<Person> persons = Collections.nCopies(personCount, ALICE);
+        List<Integer> progress = new ArrayList<>();
+        PersonListExporter.export(persons, testFolder.resolve("out.csv"), ExportFormat.CSV, progress::add);
+
+        assertEquals(List.of(PersonListExporter.PROGRESS_INTERVAL, PersonListExporter.PROGRESS_INTERVAL * 2,
+                personCount), progress);
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +63,27 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookIfChanged_sameVersion_saveSkipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        assertTrue(storageManager.saveAddressBookIfChanged(original, 1));
+
+        Files.delete(getTempFilePath("ab"));
+        assertFalse(storageManager.saveAddressBookIfChanged(original, 1));
+        assertFalse(Files.exists(getTempFilePath("ab")));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        assertTrue(storageManager.saveAddressBookIfChanged(original, 2));
+        assertTrue(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void saveAddressBookIfChanged_markedSaved_saveSkipped() throws Exception {
+        storageManager.markAddressBookSaved(0);
+        assertFalse(storageManager.saveAddressBookIfChanged(getTypicalAddressBook(), 0));
+        assertFalse(Files.exists(getTempFilePath("ab")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -4,11 +4,13 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Region;
+import seedu.address.model.person.ValidRegion;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -30,6 +32,7 @@ public class PersonBuilder {
     private Address address;
     private Region region;
     private Set<Tag> tags;
+    private Coordinates coordinates;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -43,6 +46,14 @@ public class PersonBuilder {
         tags = SampleDataUtil.getTagSet(DEFAULT_TAGS);
     }
 
+    /**
+     * Returns a person named {@code name} with the tag {@code roleTag} who lives in {@code region}, with the default
+     * details otherwise.
+     */
+    public static Person buildInRegion(String name, String roleTag, ValidRegion region) {
+        return new PersonBuilder().withName(name).withTags(roleTag).withRegion(region.getDisplayName()).build();
+    }
+
     /**
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
@@ -53,6 +64,7 @@ public class PersonBuilder {
         address = personToCopy.getAddress();
         region = personToCopy.getRegion();
         tags = new HashSet<>(personToCopy.getTags());
+        coordinates = personToCopy.getCoordinates().orElse(null);
     }
 
     /**
@@ -104,8 +116,24 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Coordinates} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withCoordinates(double latitude, double longitude) {
+        this.coordinates = new Coordinates(latitude, longitude);
+        return this;
+    }
+
+    /**
+     * Removes the {@code Coordinates} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withoutCoordinates() {
+        this.coordinates = null;
+        return this;
+    }
+
     public Person build() {
-        return new Person(name, phone, email, address, region, tags);
+        return new Person(Person.NO_ID, name, phone, email, address, region, tags, coordinates);
     }
 
 }